@@ -0,0 +1,121 @@
+package edu.kit.informatik.escaperoutenetwork.benchmark;
+
+import edu.kit.informatik.escaperoutenetwork.core.EscapeRouteNetwork;
+import edu.kit.informatik.escaperoutenetwork.core.EscapeRouteNetworkManager;
+import edu.kit.informatik.escaperoutenetwork.generator.GraphGenerator;
+import edu.kit.informatik.escaperoutenetwork.graph.Edge;
+import edu.kit.informatik.escaperoutenetwork.graph.Graph;
+import edu.kit.informatik.escaperoutenetwork.graph.Node;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Modelliert die vorbereiteten Eingaben eines Benchmarks für ein erzeugtes Fluchtwegenetz.
+ * Alle Eingaben werden einmalig vor der Messung aufgebaut, sodass die Messung allein die untersuchte Operation
+ * umfasst.
+ * @author Phil Gengenbach
+ * @version 1.0
+ */
+public final class BenchmarkFixture {
+
+    /**
+     * Kennung des erzeugten Fluchtwegenetzes.
+     */
+    public static final String NETWORK_IDENTIFIER = "BENCH";
+
+    private static final String SECTION_SEPERATOR = ";";
+    private static final int FIRST_NODE = 0;
+    private static final int LAST_NODE_OFFSET = 1;
+
+    private final Set<Edge> edges;
+    private final Set<Node> nodes;
+    private final EscapeRouteNetworkManager manager;
+    private final EscapeRouteNetwork network;
+    private final String[] addArguments;
+    private final Node source;
+    private final Node sink;
+
+    /**
+     * Bereitet die Eingaben für eine gegebene Liste an Kanten eines gültigen Fluchtwegenetzes vor.
+     * @param edgeList Kanten des Fluchtwegenetzes, wie von {@link GraphGenerator} erzeugt
+     */
+    public BenchmarkFixture(List<Edge> edgeList) {
+        this.edges = new HashSet<>(edgeList);
+        this.nodes = new HashSet<>();
+        StringBuilder sections = new StringBuilder();
+        for (Edge edge : edgeList) {
+            nodes.add(edge.getSource());
+            nodes.add(edge.getTarget());
+            if (sections.length() > 0) {
+                sections.append(SECTION_SEPERATOR);
+            }
+            edge.appendTo(sections);
+        }
+        this.addArguments = new String[] {NETWORK_IDENTIFIER, sections.toString()};
+
+        this.network = new EscapeRouteNetwork(NETWORK_IDENTIFIER, createGraph());
+        this.manager = new EscapeRouteNetworkManager();
+        manager.addEscapeRouteNetwork(network);
+
+        this.source = new Node(GraphGenerator.toIdentifier(FIRST_NODE));
+        this.sink = new Node(GraphGenerator.toIdentifier(network.getNodeCount() - LAST_NODE_OFFSET));
+    }
+
+    /**
+     * Erstellt einen neuen Graphen aus allen Kanten und Knoten des Fluchtwegenetzes.
+     * @return neuer Graph
+     */
+    public Graph createGraph() {
+        return new Graph(NETWORK_IDENTIFIER, edges, nodes);
+    }
+
+    /**
+     * Gibt die Anzahl an Kanten des Fluchtwegenetzes zurück.
+     * @return Anzahl an Kanten
+     */
+    public int getEdgeCount() {
+        return edges.size();
+    }
+
+    /**
+     * Gibt die Fluchtwegenetz-Verwaltung zurück, welche ausschließlich das erzeugte Fluchtwegenetz enthält.
+     * @return Fluchtwegenetz-Verwaltung
+     */
+    public EscapeRouteNetworkManager getManager() {
+        return manager;
+    }
+
+    /**
+     * Gibt das erzeugte Fluchtwegenetz zurück.
+     * @return Fluchtwegenetz
+     */
+    public EscapeRouteNetwork getNetwork() {
+        return network;
+    }
+
+    /**
+     * Gibt die Argumente eines add-Befehls zurück, welcher das gesamte Fluchtwegenetz neu anlegt.
+     * @return Argumente des add-Befehls
+     */
+    public String[] getAddArguments() {
+        return addArguments.clone();
+    }
+
+    /**
+     * Gibt den Startknoten mit Index 0 zurück.
+     * @return Startknoten
+     */
+    public Node getSource() {
+        return source;
+    }
+
+    /**
+     * Gibt den Zielknoten mit dem größten Index zurück.
+     * @return Zielknoten
+     */
+    public Node getSink() {
+        return sink;
+    }
+}
@@ -0,0 +1,68 @@
+package edu.kit.informatik.escaperoutenetwork.benchmark;
+
+import edu.kit.informatik.escaperoutenetwork.core.EscapeRouteCalculator;
+import edu.kit.informatik.escaperoutenetwork.core.MaxFlowEngineType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks der Verfahren zur Berechnung des maximalen Flusses.
+ * Gemessen wird jeweils die Berechnung vom ersten zum letzten Knoten über
+ * {@link EscapeRouteCalculator#calculateMaximumFlow}. Der Zwischenspeicher wird vor jeder Berechnung geleert,
+ * sodass auch die Übersetzung in ein Flussnetzwerk gemessen wird.
+ * Allokationen lassen sich über den Profiler {@code -prof gc} ermitteln.
+ * @author Phil Gengenbach
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FlowEngineBenchmark {
+
+    /**
+     * Name des Verfahrens nach {@link MaxFlowEngineType#fromName(String)}.
+     */
+    @Param({"edmondskarp", "dinic", "pushrelabel"})
+    public String engine;
+
+    private MaxFlowEngineType engineType;
+
+    /**
+     * Ermittelt das Verfahren der aktuellen Parameterkombination.
+     */
+    @Setup(Level.Trial)
+    public void selectEngine() {
+        this.engineType = MaxFlowEngineType.fromName(engine);
+        if (engineType == null) {
+            throw new IllegalArgumentException(engine);
+        }
+    }
+
+    /**
+     * Berechnet den maximalen Fluss vom ersten zum letzten Knoten ohne zwischengespeicherte Ergebnisse.
+     * @param state erzeugtes Fluchtwegenetz
+     * @return maximaler Fluss
+     */
+    @Benchmark
+    public long calculateMaximumFlow(NetworkState state) {
+        BenchmarkFixture fixture = state.getFixture();
+        EscapeRouteCalculator calculator = fixture.getNetwork().getCalculator();
+        calculator.resetMaximumFlowMap();
+        return calculator.calculateMaximumFlow(fixture.getSource(), fixture.getSink(), engineType);
+    }
+}
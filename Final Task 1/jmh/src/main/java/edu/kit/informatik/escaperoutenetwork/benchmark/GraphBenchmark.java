@@ -0,0 +1,78 @@
+package edu.kit.informatik.escaperoutenetwork.benchmark;
+
+import edu.kit.informatik.escaperoutenetwork.core.EscapeRouteNetworkManager;
+import edu.kit.informatik.escaperoutenetwork.exception.EscapeNetworkException;
+import edu.kit.informatik.escaperoutenetwork.graph.Graph;
+import edu.kit.informatik.escaperoutenetwork.userinterface.AddCommand;
+import edu.kit.informatik.escaperoutenetwork.userinterface.PrintCommand;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks der Verarbeitung von Graphen unabhängig vom Verfahren zur Berechnung des maximalen Flusses:
+ * Aufbau und Kopie eines Graphen, Verarbeitung eines add-Befehls und Ausgabe über den print-Befehl.
+ * Allokationen lassen sich über den Profiler {@code -prof gc} ermitteln.
+ * @author Phil Gengenbach
+ * @version 1.0
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GraphBenchmark {
+
+    /**
+     * Baut einen neuen Graphen aus allen Kanten und Knoten auf.
+     * @param state erzeugtes Fluchtwegenetz
+     * @return neuer Graph
+     */
+    @Benchmark
+    public Graph construct(NetworkState state) {
+        return state.getFixture().createGraph();
+    }
+
+    /**
+     * Kopiert den Graphen des Fluchtwegenetzes vollständig.
+     * @param state erzeugtes Fluchtwegenetz
+     * @return Kopie des Graphen
+     */
+    @Benchmark
+    public Graph copy(NetworkState state) {
+        return state.getFixture().getNetwork().getDirectedGraph().copy();
+    }
+
+    /**
+     * Verarbeitet einen add-Befehl, welcher das gesamte Fluchtwegenetz in einer leeren Verwaltung neu anlegt.
+     * @param state erzeugtes Fluchtwegenetz
+     * @return verarbeiteter Befehl
+     * @throws EscapeNetworkException falls das erzeugte Fluchtwegenetz ungültig ist
+     */
+    @Benchmark
+    public AddCommand parseAdd(NetworkState state) throws EscapeNetworkException {
+        AddCommand addCommand = new AddCommand(new EscapeRouteNetworkManager());
+        addCommand.parseCommandLine(state.getFixture().getAddArguments());
+        return addCommand;
+    }
+
+    /**
+     * Gibt alle Kanten über den print-Befehl aus.
+     * @param state erzeugtes Fluchtwegenetz
+     * @param blackhole nimmt die ausgegebenen Abschnitte entgegen
+     * @throws EscapeNetworkException falls das erzeugte Fluchtwegenetz nicht existiert
+     */
+    @Benchmark
+    public void print(NetworkState state, Blackhole blackhole) throws EscapeNetworkException {
+        PrintCommand printCommand = new PrintCommand(state.getFixture().getManager());
+        printCommand.parseCommandLine(new String[] {BenchmarkFixture.NETWORK_IDENTIFIER});
+        printCommand.execute().writeMessageTo(blackhole::consume);
+    }
+}
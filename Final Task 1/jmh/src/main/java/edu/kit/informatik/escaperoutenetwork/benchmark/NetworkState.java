@@ -0,0 +1,59 @@
+package edu.kit.informatik.escaperoutenetwork.benchmark;
+
+import edu.kit.informatik.escaperoutenetwork.generator.GraphFamily;
+import edu.kit.informatik.escaperoutenetwork.generator.GraphGenerator;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Modelliert den gemeinsamen Zustand aller Benchmarks: ein über {@link GraphGenerator} erzeugtes Fluchtwegenetz
+ * einer Graphfamilie mit ungefähr der gewünschten Anzahl an Kanten. Das Fluchtwegenetz wird einmal je
+ * Parameterkombination vor allen Messungen aufgebaut.
+ * @author Phil Gengenbach
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+public class NetworkState {
+
+    /**
+     * Startwert des Zufallsgenerators, sodass alle Messungen dasselbe Fluchtwegenetz verwenden.
+     */
+    public static final long SEED = 42;
+
+    /**
+     * Name der Graphfamilie nach {@link GraphFamily#fromName(String)}.
+     */
+    @Param({"layered", "grid", "sparse", "dense", "building", "campus", "worstcase"})
+    public String family;
+
+    /**
+     * Gewünschte Anzahl an Kanten des Fluchtwegenetzes.
+     */
+    @Param({"100", "10000", "1000000"})
+    public int edges;
+
+    private BenchmarkFixture fixture;
+
+    /**
+     * Erzeugt das Fluchtwegenetz für die aktuelle Parameterkombination.
+     */
+    @Setup(Level.Trial)
+    public void generateNetwork() {
+        GraphFamily graphFamily = GraphFamily.fromName(family);
+        if (graphFamily == null) {
+            throw new IllegalArgumentException(family);
+        }
+        this.fixture = new BenchmarkFixture(new GraphGenerator(SEED).generate(graphFamily, edges));
+    }
+
+    /**
+     * Gibt die vorbereiteten Eingaben des erzeugten Fluchtwegenetzes zurück.
+     * @return vorbereitete Eingaben
+     */
+    public BenchmarkFixture getFixture() {
+        return fixture;
+    }
+}
@@ -1,6 +1,7 @@
 package edu.kit.informatik.escaperoutenetwork;
 
 import edu.kit.informatik.escaperoutenetwork.exception.ErrorMessages;
+import edu.kit.informatik.escaperoutenetwork.userinterface.BatchSession;
 import edu.kit.informatik.escaperoutenetwork.userinterface.Session;
 
 /**
@@ -20,10 +21,15 @@ public final class Application {
 
     /**
      * Einstiegspunkt des Programmes. Instanziert die Benutzerinteraktion.
-     * Sämtliche Kommandozeilenparameter werden ignoriert.
+     * Werden Kommandozeilenparameter angegeben, so werden diese als Skripte nicht-interaktiv über
+     * {@link BatchSession#runScripts(String[])} ausgeführt.
      * @param args Komandozeilenparameter
      */
     public static void main(String[] args) {
+        if (args.length > 0) {
+            BatchSession.runScripts(args);
+            return;
+        }
         Session session = new Session();
         session.run();
     }
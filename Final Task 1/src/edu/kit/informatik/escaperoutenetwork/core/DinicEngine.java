@@ -0,0 +1,151 @@
+package edu.kit.informatik.escaperoutenetwork.core;
+
+import edu.kit.informatik.escaperoutenetwork.graph.FlowNetwork;
+
+import java.util.Arrays;
+
+/**
+ * Modelliert eine Berechnung des maximalen Flusses über eine Implementation des Dinic-Algorithmus.
+ * In jeder Phase wird per Breitensuche ein Niveaugraph bestimmt, in welchem anschließend
+ * ein blockierender Fluss über eine Tiefensuche ermittelt wird.
+ * Die Laufzeit ist dabei durch O(V²E) beschränkt.
+ * @author Phil Gengenbach
+ * @version 1.0
+ */
+public final class DinicEngine implements MaxFlowEngine {
+
+    private static final int UNREACHED = -1;
+    private static final int START_INDEX = 0;
+    private static final int NEXT_LEVEL = 1;
+    private static final int NEXT_ARC = 1;
+    private static final long INITIAL_FLOW = 0;
+    private static final long INITIAL_COUNT = 0;
+
+    private FlowNetwork network;
+    private long augmentationCount;
+    private long phaseCount;
+    private long scannedArcCount;
+
+    private int[] level;
+    private int[] currentArc;
+    private int[] queue;
+    private int[] pathArcs;
+
+    @Override
+    public long calculateMaximumFlow(FlowNetwork network, int source, int sink) {
+        this.network = network;
+        int nodeCount = network.getNodeCount();
+        this.level = new int[nodeCount];
+        this.currentArc = new int[nodeCount];
+        this.queue = new int[nodeCount];
+        this.pathArcs = new int[nodeCount];
+        this.augmentationCount = INITIAL_COUNT;
+        this.phaseCount = INITIAL_COUNT;
+        this.scannedArcCount = INITIAL_COUNT;
+
+        while (buildLevelGraph(source, sink)) {
+            for (int node = START_INDEX; node < nodeCount; node++) {
+                currentArc[node] = network.getFirstArc(node);
+            }
+            long augmentedFlow = augmentAlongLevelGraph(source, sink);
+            while (augmentedFlow > INITIAL_FLOW) {
+                augmentationCount++;
+                augmentedFlow = augmentAlongLevelGraph(source, sink);
+            }
+        }
+        return network.getNetInflow(sink);
+    }
+
+    @Override
+    public long getAugmentationCount() {
+        return augmentationCount;
+    }
+
+    @Override
+    public long getPhaseCount() {
+        return phaseCount;
+    }
+
+    @Override
+    public long getScannedArcCount() {
+        return scannedArcCount;
+    }
+
+    /**
+     * Bestimmt über eine Breitensuche ausgehend vom Startknoten das Niveau jedes Knotens
+     * im Restkapazitätennetzwerk.
+     * @param source Startknoten
+     * @param sink Zielknoten
+     * @return ob der Zielknoten im Restkapazitätennetzwerk erreichbar ist
+     */
+    private boolean buildLevelGraph(int source, int sink) {
+        Arrays.fill(level, UNREACHED);
+        int queueHead = START_INDEX;
+        int queueTail = START_INDEX;
+        level[source] = START_INDEX;
+        queue[queueTail++] = source;
+        phaseCount++;
+
+        while (queueHead < queueTail) {
+            int node = queue[queueHead++];
+            scannedArcCount += network.getEndArc(node) - network.getFirstArc(node);
+            for (int arc = network.getFirstArc(node); arc < network.getEndArc(node); arc++) {
+                int arcTarget = network.getTarget(arc);
+                if (network.getRemainingCapacity(arc) > INITIAL_FLOW && level[arcTarget] == UNREACHED) {
+                    level[arcTarget] = level[node] + NEXT_LEVEL;
+                    queue[queueTail++] = arcTarget;
+                }
+            }
+        }
+        return level[sink] != UNREACHED;
+    }
+
+    /**
+     * Sucht iterativ einen Pfad vom Start- zum Zielknoten innerhalb des Niveaugraphen und erhöht den Fluss
+     * entlang dieses Pfades um die minimale Restkapazität.
+     * Bereits erschöpfte Kanten werden über {@link #currentArc} übersprungen, Sackgassen werden aus dem
+     * Niveaugraphen entfernt.
+     * @param source Startknoten
+     * @param sink Zielknoten
+     * @return Wert, um den der Fluss erhöht wurde, oder {@code 0} falls der Fluss blockierend ist
+     */
+    private long augmentAlongLevelGraph(int source, int sink) {
+        int pathLength = START_INDEX;
+        int node = source;
+
+        while (node != sink) {
+            int arc = currentArc[node];
+            int endArc = network.getEndArc(node);
+            while (arc < endArc && (network.getRemainingCapacity(arc) == INITIAL_FLOW
+                    || level[network.getTarget(arc)] != level[node] + NEXT_LEVEL)) {
+                arc++;
+            }
+            scannedArcCount += arc - currentArc[node];
+            currentArc[node] = arc;
+
+            if (arc < endArc) {
+                pathArcs[pathLength++] = arc;
+                node = network.getTarget(arc);
+                continue;
+            }
+
+            //Sackgasse -> Knoten wird aus dem Niveaugraphen entfernt und die letzte Kante zurückgenommen
+            level[node] = UNREACHED;
+            if (pathLength == START_INDEX) {
+                return INITIAL_FLOW;
+            }
+            int previousArc = pathArcs[--pathLength];
+            node = network.getSource(previousArc);
+            currentArc[node] = previousArc + NEXT_ARC;
+        }
+
+        long minimumRestCapacity = Long.MAX_VALUE;
+        for (int i = START_INDEX; i < pathLength; i++) {
+            minimumRestCapacity = Math.min(minimumRestCapacity, network.getRemainingCapacity(pathArcs[i]));
+        }
+        for (int i = START_INDEX; i < pathLength; i++) {
+            network.augment(pathArcs[i], minimumRestCapacity);
+        }
+        return minimumRestCapacity;
+    }
+}
@@ -0,0 +1,111 @@
+package edu.kit.informatik.escaperoutenetwork.core;
+
+import edu.kit.informatik.escaperoutenetwork.graph.FlowNetwork;
+
+/**
+ * Modelliert eine Berechnung des maximalen Flusses über eine Implementation des Edmond-Karp-Algorithmus.
+ * Solange ein augmentierender Pfad im Restkapazitätennetzwerk existiert, wird der Fluss entlang
+ * dieses Pfades um die minimale Restkapazität erhöht.
+ * Das Restkapazitätennetzwerk wird dabei nicht eigens aufgebaut, sondern direkt über die Kapazitäten und Flüsse
+ * der gepaarten Kanten und Rückkanten des Flussnetzwerks betrachtet.
+ * Da die Pfade über eine echte Breitensuche gefunden werden, ist jeder augmentierende Pfad ein kürzester Pfad
+ * und die Laufzeit durch O(VE²) beschränkt.
+ * @author Phil Gengenbach
+ * @version 1.0
+ */
+public final class EdmondsKarpEngine implements MaxFlowEngine {
+
+    private static final int INITIAL_FLOW = 0;
+    private static final int NEXT_ARC = 1;
+    private static final long INITIAL_COUNT = 0;
+
+    private FlowNetwork network;
+    private SearchWorkspace workspace;
+    private long augmentationCount;
+    private long phaseCount;
+    private long scannedArcCount;
+
+    @Override
+    public long calculateMaximumFlow(FlowNetwork network, int source, int sink) {
+        this.network = network;
+        this.workspace = new SearchWorkspace(network.getNodeCount());
+        this.augmentationCount = INITIAL_COUNT;
+        this.phaseCount = INITIAL_COUNT;
+        this.scannedArcCount = INITIAL_COUNT;
+
+        while (breadthFirstSearch(source, sink)) {
+            augmentationCount++;
+            long minimumRestCapacity = determineMinimumRemainingCapacityAlongPath(sink);
+            int node = sink;
+            while (workspace.getParentArc(node) != SearchWorkspace.NO_ARC) {
+                int arc = workspace.getParentArc(node);
+                network.augment(arc, minimumRestCapacity);
+                node = network.getSource(arc);
+            }
+        }
+        return network.getNetInflow(sink);
+    }
+
+    @Override
+    public long getAugmentationCount() {
+        return augmentationCount;
+    }
+
+    @Override
+    public long getPhaseCount() {
+        return phaseCount;
+    }
+
+    @Override
+    public long getScannedArcCount() {
+        return scannedArcCount;
+    }
+
+    /**
+     * Ermittelt einen Weg im Restkapazitätennetzwerk von einem gegebenen Start- zu einem weiteren Zielknoten.
+     * Die Suche nach einem solchen Pfad erfolgt über einen Breitensuche-Algorithmus.
+     * Falls ein solcher Weg gefunden wurde, kann der Pfad über die im Arbeitsspeicher hinterlegten Kanten
+     * vom Zielknoten aus rekonstruiert werden.
+     * @param source Startknoten
+     * @param sink Zielknoten
+     * @return ob ein Pfad vom Start- zum Zielknoten existiert
+     */
+    private boolean breadthFirstSearch(int source, int sink) {
+        workspace.beginSearch(source);
+        phaseCount++;
+
+        while (workspace.hasQueuedNodes()) {
+            int currentQueueElement = workspace.poll();
+            int firstArc = network.getFirstArc(currentQueueElement);
+            for (int arc = firstArc; arc < network.getEndArc(currentQueueElement); arc++) {
+                int node = network.getTarget(arc);
+                if (network.getRemainingCapacity(arc) > INITIAL_FLOW && !workspace.isVisited(node)) {
+                    workspace.visit(node, arc);
+                    if (node == sink) {
+                        scannedArcCount += arc - firstArc + NEXT_ARC;
+                        return true;
+                    }
+                }
+            }
+            scannedArcCount += network.getEndArc(currentQueueElement) - firstArc;
+        }
+        return false;
+    }
+
+    /**
+     * Bestimmt die minimale Restkapazität entlang des zuletzt gefundenen Pfades.
+     * Dazu wird der Pfad vom Zielknoten aus über die Kanten zurückverfolgt, über die jeder Knoten entdeckt wurde.
+     * @param sink Zielknoten
+     * @return minimale Restkapazität entlang eines Pfades
+     */
+    private long determineMinimumRemainingCapacityAlongPath(int sink) {
+        long minimumRestCapacity = Long.MAX_VALUE;
+        int node = sink;
+        while (workspace.getParentArc(node) != SearchWorkspace.NO_ARC) {
+            int arc = workspace.getParentArc(node);
+            minimumRestCapacity = Math.min(minimumRestCapacity, network.getRemainingCapacity(arc));
+            node = network.getSource(arc);
+        }
+        return minimumRestCapacity;
+    }
+}
@@ -1,274 +1,311 @@
 package edu.kit.informatik.escaperoutenetwork.core;
 
-import edu.kit.informatik.escaperoutenetwork.compare.MaximumFlowComparator;
-import edu.kit.informatik.escaperoutenetwork.graph.Edge;
+import edu.kit.informatik.escaperoutenetwork.event.FlowEvent;
+import edu.kit.informatik.escaperoutenetwork.graph.FlowNetwork;
 import edu.kit.informatik.escaperoutenetwork.graph.Graph;
 import edu.kit.informatik.escaperoutenetwork.graph.Node;
 import edu.kit.informatik.escaperoutenetwork.graph.NodePair;
-import edu.kit.informatik.escaperoutenetwork.graph.Path;
 
 import java.util.ArrayList;
-import java.util.Collections;
-import java.util.HashMap;
-import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.Consumer;
 
 
 /**
  * Modelliert eine Berechnungseinheit eines Fluchtwegenetzes, welche für die Berechnung
  * des maximalen Durchflusses zuständig ist.
+ * Jede Berechnung arbeitet auf einem eigenen Flussnetzwerk, welches sich lediglich die unveränderliche Struktur
+ * mit dem übersetzten Fluchtwegenetz teilt. Der Graph des Fluchtwegenetzes wird während einer Berechnung nur
+ * gelesen, sodass mehrere Berechnungen auf demselben Fluchtwegenetz gleichzeitig ausgeführt werden können.
+ * Für jede Flussanfrage werden Messwerte in den {@link FlowStatistics} des Fluchtwegenetzes festgehalten und
+ * ein {@link FlowEvent} für den Java Flight Recorder aufgezeichnet.
  * @author Phil Gengenbach
  * @version 1.0
  */
 public class EscapeRouteCalculator {
 
+    /**
+     * Standardverfahren zur Berechnung des maximalen Flusses.
+     */
+    public static final MaxFlowEngineType DEFAULT_ENGINE_TYPE = MaxFlowEngineType.DINIC;
+
+    /**
+     * Gemeinsamer Thread-Pool zur parallelen Berechnung mehrerer maximaler Flüsse, dessen Größe der Anzahl
+     * verfügbarer Prozessoren entspricht.
+     */
+    private static final ForkJoinPool FLOW_POOL = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+
     private static final String EMPTY_STATUS = "EMPTY";
     private static final String SPACE_SEPERATOR = " ";
-    private static final int INITIAL_FLOW = 0;
-    private static final int MINIMUM_SIZE = 1;
     private static final int START_INDEX = 0;
-    private static final int DIVIDER = 2;
+    private static final int MAX_RETAINED_FLOWS = 8;
+    private static final int RETAINED_INITIAL_CAPACITY = 16;
+    private static final float RETAINED_LOAD_FACTOR = 0.75f;
 
-    private final EscapeRouteNetwork escapeRouteNetwork;
+    private final String networkIdentifier;
     private final Graph escapeRouteGraph;
+    private final FlowResultCache maximumFlowCache;
+    private final Map<Long, long[]> retainedFlows;
+    private final FlowStatistics flowStatistics;
 
-    private Graph remainingCapacityNetworkGraph;
-    private final Map<NodePair, Long> maximumFlowMap;
+    private volatile FlowNetwork flowNetwork;
+    private FlowNetwork retainedFlowNetwork;
 
     /**
      * Erstellt eine neue Berechnungseinheit innerhalb eines Fluchtwegenetzes.
      * @param escapeRouteNetwork Fluchtwegenetz
+     * @param cacheCapacity maximale Anzahl an Einträgen im Zwischenspeicher berechneter Flüsse
      */
-    public EscapeRouteCalculator(EscapeRouteNetwork escapeRouteNetwork) {
-        this.escapeRouteNetwork = escapeRouteNetwork;
+    public EscapeRouteCalculator(EscapeRouteNetwork escapeRouteNetwork, int cacheCapacity) {
+        this.networkIdentifier = escapeRouteNetwork.getUniqueIdentifier();
         this.escapeRouteGraph = escapeRouteNetwork.getDirectedGraph();
-        this.maximumFlowMap = new HashMap<>();
+        this.maximumFlowCache = new FlowResultCache(cacheCapacity);
+        //Nur die Flüsse der zuletzt angefragten Paare werden beibehalten, da jeder Fluss ein Feld je Kante belegt
+        this.retainedFlows = new LinkedHashMap<>(RETAINED_INITIAL_CAPACITY, RETAINED_LOAD_FACTOR, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, long[]> eldest) {
+                return size() > MAX_RETAINED_FLOWS;
+            }
+        };
+        this.flowStatistics = new FlowStatistics();
     }
 
     /**
-     * Gibt eine sortierte Liste an Schlüsseln der Maximalen Fluss Map zurück.
-     * Die Einträge werden mittels eines {@link MaximumFlowComparator} sortiert und
-     * anschließend zurückgegeben.
-     * @return sortierte Liste an Schlüsseln der Maximalen Fluss Map
+     * Gibt die über alle Flussanfragen dieses Fluchtwegenetzes aufsummierten Messwerte zurück.
+     * @return Messwerte aller Flussanfragen
      */
-    private List<NodePair> getSortedMaximumFlowMapKeys() {
-        Set<Map.Entry<NodePair, Long>> mapEntries = maximumFlowMap.entrySet();
-        List<Map.Entry<NodePair, Long>> listOfMapEntries = new ArrayList<>(mapEntries);
-        Collections.sort(listOfMapEntries, new MaximumFlowComparator());
-        List<NodePair> keys = new ArrayList<>();
-        for (Map.Entry<NodePair, Long> mapEntry : listOfMapEntries) {
-            keys.add(mapEntry.getKey());
-        }
-        return keys;
+    public FlowStatistics getFlowStatistics() {
+        return flowStatistics;
     }
 
     /**
      * Entfernt alle berechneten Maximalen Flüsse von beliebigen Start- zu Zielknoten.
-     * Dazu wird die MaximumFlowMap geleert.
+     * Dazu wird der Zwischenspeicher geleert und das übersetzte Flussnetzwerk verworfen,
+     * da sich der Graph des Fluchtwegenetzes verändert hat.
      */
-    public void resetMaximumFlowMap() {
-        this.maximumFlowMap.clear();
+    public synchronized void resetMaximumFlowMap() {
+        this.maximumFlowCache.clear();
+        this.retainedFlows.clear();
+        this.flowNetwork = null;
+        this.retainedFlowNetwork = null;
     }
 
     /**
-     * Gibt alle berechneten Maximalen Flussgeschwindigkeiten als Zeichenkette zurück.
-     * Dabei folgt immer auf die Maximale Flussgeschwindigkeit der dazugehörige
-     * Start- und Endknoten im Folgenden Format:
-     * [n] [v_1] [v_2]
-     * @return Maximale Flussgeschwindigkeiten des Fluchtwegenetzes als Zeichenkette
+     * Verwirft alle berechneten Maximalen Flüsse, nachdem dem Graphen des Fluchtwegenetzes eine Kante
+     * hinzugefügt oder eine bestehende Kante überschrieben wurde.
+     * Die Flüsse der zuletzt angefragten Paare bleiben dabei erhalten, da sie auch nach dem Hinzufügen einer Kante
+     * gültige Flüsse darstellen. Eine erneute Berechnung setzt daher auf diesen Flüssen auf und muss lediglich
+     * die durch die neue Kante entstandenen augmentierenden Pfade finden.
      */
-    public String getMaximumFlowsString() {
-        if (maximumFlowMap.isEmpty()) {
-            return EMPTY_STATUS;
-        }
-        List<NodePair> sortedKeyNodePairs = getSortedMaximumFlowMapKeys();
+    public synchronized void updateAfterEdgeAddition() {
+        this.maximumFlowCache.clear();
+        this.flowNetwork = null;
+    }
 
-        StringBuilder builder = new StringBuilder();
-        for (int i = START_INDEX; i < sortedKeyNodePairs.size(); i++) {
-            NodePair nodePairKey = sortedKeyNodePairs.get(i);
-            builder.append(maximumFlowMap.get(nodePairKey) + SPACE_SEPERATOR
-                    + nodePairKey.getStartNode().getUniqueIdentifier() + SPACE_SEPERATOR
-                    + nodePairKey.getTargetNode().getUniqueIdentifier());
-            if (i < sortedKeyNodePairs.size() - MINIMUM_SIZE) {
-                builder.append(System.lineSeparator());
+    /**
+     * Gibt alle zulässigen Startknoten des Fluchtwegenetzes mit Eingangsgrad 0 zurück.
+     * @return Liste aller Startknoten
+     */
+    private List<Node> getSourceNodes() {
+        List<Node> sources = new ArrayList<>();
+        for (Node node : escapeRouteGraph.getNodes()) {
+            if (escapeRouteGraph.isSource(node)) {
+                sources.add(node);
             }
         }
-        return builder.toString();
+        return sources;
     }
 
     /**
-     * Berechnet den Maximalen Fluss von einem gegebenen Start- zu einem gegebenen Zielknoten.
-     * Wurde der Maximale Fluss für ein gegebenes Start-Zielknoten-Paar bereits berechnet,
-     * so wird das Ergebnis direkt zurückgegeben.
-     * Andernfalls wird das Ergebnis über eine Implementation des Edmond-Karp-Algorithmus berechnet.
-     * @param startNode Startknoten
-     * @param endNode Zielknoten
-     * @return Maximaler Fluss vom Start- zum Zielknoten
+     * Gibt alle zulässigen Zielknoten des Fluchtwegenetzes mit Ausgangsgrad 0 zurück.
+     * @return Liste aller Zielknoten
      */
-    public long calculateMaximumFlow(Node startNode, Node endNode) {
-        NodePair nodePair = new NodePair(startNode, endNode);
-        if (!maximumFlowMap.isEmpty() && maximumFlowMap.containsKey(nodePair)) {
-            return maximumFlowMap.get(nodePair);
-        }
-
-        initalizeEmptyFlowGraph();
-
-        while (true) {
-            determineRemainingCapacityNetwork();
-            Path path = breadthFirstSearch(remainingCapacityNetworkGraph, startNode, endNode);
-
-            if (path == null) {
-                break;
-            }
-
-            long minimumRestCapacity = determineMinimumRemainingCapacityAlongPath(path);
-
-            for (Edge edge : escapeRouteGraph.getEdges()) {
-                if (path.containsEdge(edge)) {
-                    edge.augment(minimumRestCapacity);
-                }
+    private List<Node> getSinkNodes() {
+        List<Node> sinks = new ArrayList<>();
+        for (Node node : escapeRouteGraph.getNodes()) {
+            if (escapeRouteGraph.isSink(node)) {
+                sinks.add(node);
             }
-
-            path.getPathEdges().forEach(edge -> edge.augment(minimumRestCapacity));
         }
-        this.maximumFlowMap.put(nodePair, getMaximumFlow(endNode));
-        return getMaximumFlow(endNode);
+        return sinks;
     }
 
-
     /**
-     * Bestimmt den Maximalen Fluss des Graphen. Der maximale Fluss wird dabei berechnet über die Summe aller Flüsse
-     * der Kanten die hin zum Zielknoten zeigen.
-     * @param targetNode Zielknoten
-     * @return Maximaler Fluss
+     * Gibt das in ein Flussnetzwerk übersetzte Fluchtwegenetz zurück.
+     * Das Flussnetzwerk wird dabei nur neu übersetzt, wenn sich der Graph seit der letzten Übersetzung
+     * verändert hat. In diesem Fall werden alle zuvor berechneten Flüsse auf das neue Flussnetzwerk übertragen,
+     * sofern sie dort weiterhin gültig sind.
+     * @return Flussnetzwerk des Fluchtwegenetzes
      */
-    private long getMaximumFlow(Node targetNode) {
-        long newMaximumFlow = INITIAL_FLOW;
-        for (Edge edge : escapeRouteGraph.getEdges()) {
-            if (edge.getTarget().equals(targetNode)) {
-                newMaximumFlow += edge.getFlow();
+    private synchronized FlowNetwork getFlowNetwork() {
+        if (flowNetwork != null) {
+            return flowNetwork;
+        }
+        this.flowNetwork = new FlowNetwork(escapeRouteGraph);
+        flowStatistics.recordResidualRebuild();
+        Iterator<Map.Entry<Long, long[]>> iterator = retainedFlows.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<Long, long[]> retainedFlow = iterator.next();
+            long[] translatedFlows = flowNetwork.translateFlows(retainedFlowNetwork, retainedFlow.getValue());
+            if (translatedFlows == null) {
+                iterator.remove();
+            } else {
+                retainedFlow.setValue(translatedFlows);
             }
         }
-        return newMaximumFlow;
+        this.retainedFlowNetwork = flowNetwork;
+        return flowNetwork;
     }
 
     /**
-     * Initialisiert den Fluss im Graphen.
-     * Setzt den Fluss aller Kanten im Graphen auf {@code 0}, entfernt alle
-     * Rezidualkanten und setzt das Kapazitätennetzwerk auf {@code null}.
+     * Schreibt alle berechneten Maximalen Flussgeschwindigkeiten abschnittsweise in eine gegebene Ausgabe.
+     * Dabei folgt immer auf die Maximale Flussgeschwindigkeit der dazugehörige
+     * Start- und Endknoten im Folgenden Format:
+     * [n] [v_1] [v_2]
+     * Wurde noch kein Fluss berechnet, so wird {@code EMPTY} ausgegeben.
+     * @param output Ausgabe, welche die einzelnen Abschnitte entgegennimmt
      */
-    private void initalizeEmptyFlowGraph() {
-        for (Edge edge : escapeRouteNetwork.getDirectedGraph().getEdges()) {
-            edge.setFlow(INITIAL_FLOW);
-            edge.setResidualEdge(null);
+    public void writeMaximumFlows(Consumer<CharSequence> output) {
+        synchronized (maximumFlowCache) {
+            int entryCount = maximumFlowCache.size();
+            if (entryCount == START_INDEX) {
+                output.accept(EMPTY_STATUS);
+                return;
+            }
+            LineChunkWriter writer = new LineChunkWriter(output);
+            for (int i = START_INDEX; i < entryCount; i++) {
+                long key = maximumFlowCache.getSortedKey(i);
+                StringBuilder line = writer.nextLine().append(maximumFlowCache.getSortedFlow(i))
+                        .append(SPACE_SEPERATOR);
+                Node.appendUnpacked(NodePair.getStartPackedIdentifier(key), line);
+                line.append(SPACE_SEPERATOR);
+                Node.appendUnpacked(NodePair.getTargetPackedIdentifier(key), line);
+            }
+            writer.flush();
         }
-        this.remainingCapacityNetworkGraph = null;
     }
 
     /**
-     * Ermittelt einen Weg im gegebenen Restkapazitätennetzwerkgraphen von einem
-     * gegebenen Start- zu einem weiteren Zielknoten.
-     * Die Suche nach einem solchen Pfad erfolgt über einen Breitensuche-Algorithmus.
-     * Falls ein solcher Weg gefunden wurde, wird der dazugehörige Pfad von Start- zum Zielknoten zurückgegeben.
-     * Falls es kein Pfad vom Start- zum Zielknoten gibt, so wird {@code null} zurückgegeben
+     * Berechnet den Maximalen Fluss von einem gegebenen Start- zu einem gegebenen Zielknoten
+     * mit dem Standardverfahren {@link #DEFAULT_ENGINE_TYPE}.
      * @param startNode Startknoten
      * @param endNode Zielknoten
-     * @return Pfad vom Start- zum Zielknoten
+     * @return Maximaler Fluss vom Start- zum Zielknoten
+     * @see #calculateMaximumFlow(Node, Node, MaxFlowEngineType)
      */
-    private Path breadthFirstSearch(Graph graph, Node startNode, Node endNode) {
-        List<Node> queue = new ArrayList<>();
-        List<Node> visitedNodes = new ArrayList<>();
-        Map<Node, Node> nodeDiscoveredBy = new HashMap<>();
-        visitedNodes.add(startNode);
-        queue.add(startNode);
-
-        List<Edge> pathEdges = new ArrayList<>();
-
-        while (!queue.isEmpty()) {
-            Node currentQueueElement = queue.get(queue.size() - MINIMUM_SIZE);
-            queue.remove(queue.size() - MINIMUM_SIZE);
-            if (currentQueueElement.equals(endNode)) {
-                //Zielknoten gefunden -> Pfad wird rekonstruiert
-                Node nodeFoundByPreviousNode = endNode;
-                while (nodeFoundByPreviousNode != startNode) {
-                    Node previousNode = nodeDiscoveredBy.get(nodeFoundByPreviousNode);
-                    pathEdges.add(graph.getEdge(previousNode, nodeFoundByPreviousNode));
-                    nodeFoundByPreviousNode = previousNode;
-                }
-                Path path = new Path(pathEdges);
-                //Pfad ist in falscher Reihenfolge -> Pfad wird umgekehrt
-                path.invert();
-                return path;
-            }
+    public long calculateMaximumFlow(Node startNode, Node endNode) {
+        return calculateMaximumFlow(startNode, endNode, DEFAULT_ENGINE_TYPE);
+    }
 
-            if (graph == null) {
-                return null;
-            }
+    /**
+     * Berechnet den Maximalen Fluss von einem gegebenen Start- zu einem gegebenen Zielknoten.
+     * Wurde der Maximale Fluss für ein gegebenes Start-Zielknoten-Paar bereits berechnet und befindet sich noch im
+     * Zwischenspeicher, so wird das Ergebnis direkt zurückgegeben.
+     * Andernfalls wird das Ergebnis über das gegebene Verfahren berechnet. Existiert noch ein Fluss aus einer
+     * Berechnung vor dem Hinzufügen einer Kante, so wird dieser dabei als Ausgangspunkt verwendet.
+     * Die Laufzeit der Anfrage und die Art ihrer Beantwortung werden in den {@link FlowStatistics} festgehalten.
+     * @param startNode Startknoten
+     * @param endNode Zielknoten
+     * @param flowEngineType Verfahren zur Berechnung des maximalen Flusses
+     * @return Maximaler Fluss vom Start- zum Zielknoten
+     */
+    public long calculateMaximumFlow(Node startNode, Node endNode, MaxFlowEngineType flowEngineType) {
+        FlowEvent event = new FlowEvent(networkIdentifier, flowEngineType);
+        event.begin();
+        long startTime = System.nanoTime();
+        long maximumFlow = answerMaximumFlowQuery(startNode, endNode, flowEngineType, event);
+        flowStatistics.recordQuery(System.nanoTime() - startTime);
+        event.end();
+        //Die Kennungen der Knoten werden nur für tatsächlich aufgezeichnete Ereignisse erzeugt
+        if (event.shouldCommit()) {
+            event.setQuery(startNode.getUniqueIdentifier(), endNode.getUniqueIdentifier(), maximumFlow);
+            event.commit();
+        }
+        return maximumFlow;
+    }
 
-            if (graph.getNeighbourNodes(currentQueueElement) == null) {
-                continue;
+    /**
+     * Beantwortet eine Flussanfrage aus dem Zwischenspeicher oder durch eine Berechnung.
+     * @param startNode Startknoten
+     * @param endNode Zielknoten
+     * @param flowEngineType Verfahren zur Berechnung des maximalen Flusses
+     * @param event Ereignis der Anfrage, in dem die Art ihrer Beantwortung festgehalten wird
+     * @return Maximaler Fluss vom Start- zum Zielknoten
+     * @see #calculateMaximumFlow(Node, Node, MaxFlowEngineType)
+     */
+    private long answerMaximumFlowQuery(Node startNode, Node endNode, MaxFlowEngineType flowEngineType,
+            FlowEvent event) {
+        long key = NodePair.toKey(startNode, endNode);
+        long cachedFlow = maximumFlowCache.get(key);
+        if (cachedFlow != FlowResultCache.NO_FLOW) {
+            flowStatistics.recordCacheHit();
+            event.recordCacheHit();
+            return cachedFlow;
+        }
+        FlowNetwork network;
+        FlowNetwork queryNetwork;
+        synchronized (this) {
+            network = getFlowNetwork();
+            queryNetwork = network.copyWithEmptyFlow();
+            long[] retainedFlow = retainedFlows.get(key);
+            if (retainedFlow != null) {
+                queryNetwork.setFlows(retainedFlow);
             }
-
-            for (Node node : graph.getNeighbourNodes(currentQueueElement)) {
-                if (!visitedNodes.contains(node)) {
-                    queue.add(node);
-                    visitedNodes.add(node);
-                    nodeDiscoveredBy.put(node, currentQueueElement);
-                }
+        }
+        MaxFlowEngine engine = flowEngineType.createEngine();
+        long maximumFlow = engine.calculateMaximumFlow(queryNetwork, queryNetwork.getNodeId(startNode),
+                queryNetwork.getNodeId(endNode));
+        flowStatistics.recordComputation(engine);
+        event.recordComputation(engine);
+
+        synchronized (this) {
+            //Ergebnisse einer inzwischen veralteten Übersetzung werden verworfen
+            if (network == flowNetwork) {
+                this.retainedFlows.put(key, queryNetwork.getFlows());
+                storeMaximumFlow(key, maximumFlow);
             }
         }
-        return  null;
+        return maximumFlow;
     }
 
     /**
-     * Bestimmt die minimale Restkapazität entlang eines gegebenen Pfades.
-     * Dazu wird die Liste an Kanten des Pfades durchlaufen und die geringste Restkapazität
-     * zurückgegeben.
-     * @param path Pfad
-     * @return minimale Restkapazität entlang eines Pfades
+     * Berechnet den Maximalen Fluss aller gültigen Start-Zielknoten-Paare des Fluchtwegenetzes parallel.
+     * Bereits berechnete Paare werden dabei nicht erneut berechnet.
+     * Alle Ergebnisse werden in den Zwischenspeicher übernommen, sodass anschließende Flussanfragen und die
+     * Ausgabe aller Flüsse direkt aus diesem beantwortet werden.
+     * @param flowEngineType Verfahren zur Berechnung der maximalen Flüsse
+     * @return Anzahl der berechneten Start-Zielknoten-Paare
+     * @see #calculateMaximumFlow(Node, Node, MaxFlowEngineType)
      */
-    private long determineMinimumRemainingCapacityAlongPath(Path path) {
-        long minimumRestCapacity = Long.MAX_VALUE / DIVIDER;
-        for (Edge edge : path.getPathEdges()) {
-            if (edge.getRemainingCapacity() > INITIAL_FLOW && edge.getRemainingCapacity() < minimumRestCapacity) {
-                minimumRestCapacity = edge.getRemainingCapacity();
+    public int calculateAllMaximumFlows(MaxFlowEngineType flowEngineType) {
+        List<ForkJoinTask<Long>> tasks = new ArrayList<>();
+        List<Node> sinks = getSinkNodes();
+        for (Node startNode : getSourceNodes()) {
+            for (Node endNode : sinks) {
+                tasks.add(FLOW_POOL.submit(() -> calculateMaximumFlow(startNode, endNode, flowEngineType)));
             }
         }
-        return minimumRestCapacity;
+        for (ForkJoinTask<Long> task : tasks) {
+            task.join();
+        }
+        return tasks.size();
     }
 
     /**
-     * Erstellt einen neuen Restkapazitätengraphen / Residualgraphen und setzt den
-     * {@link #remainingCapacityNetworkGraph} neu.
-     * Der Residualgraph teilt sich mit dem ursprünglichen Fluchtwegenetz-Graphen dieselbe Knotenmenge und enthält
-     * alle Kanten die nicht ausgelastet sind, also alle Kanten, deren Restkapazität größer als {@code 0} ist.
-     * Zusätzlich ergänzt werden die Kanten durch Rückkanten.
+     * Legt einen berechneten Maximalen Fluss im Zwischenspeicher ab. Wird dabei ein älterer Eintrag verdrängt,
+     * so wird auch dessen beibehaltener Fluss verworfen.
+     * @param key gepackter Schlüssel des Start-Zielknoten-Paares
+     * @param maximumFlow Maximaler Fluss
      */
-    private void determineRemainingCapacityNetwork() {
-        Set<Edge> remainingCapacityNetworkEdges = new HashSet<>();
-        for (Edge edge : escapeRouteGraph.getEdges()) {
-            if (edge.isRemaining()) {
-                if (edge.getResidualEdge() == null) {
-                    Edge residualEdge = new Edge(edge.getTarget(), edge.getSource(), INITIAL_FLOW);
-                    residualEdge.setResidualEdge(edge);
-                    edge.setResidualEdge(residualEdge);
-                }
-                remainingCapacityNetworkEdges.add(edge);
-                if (edge.getFlow() > INITIAL_FLOW) {
-                    remainingCapacityNetworkEdges.add(edge.getResidualEdge());
-                }
-
-            }
-            if (edge.getResidualEdge().isRemaining()) {
-                remainingCapacityNetworkEdges.add(edge.getResidualEdge());
-            }
+    private void storeMaximumFlow(long key, long maximumFlow) {
+        long evictedKey = maximumFlowCache.put(key, maximumFlow);
+        if (evictedKey != FlowResultCache.NO_KEY) {
+            retainedFlows.remove(evictedKey);
         }
-
-        this.remainingCapacityNetworkGraph = new Graph(escapeRouteGraph.getUniqueIdentifier(),
-                remainingCapacityNetworkEdges, escapeRouteGraph.getNodes());
     }
-
-
 }
@@ -16,19 +16,59 @@ public final class EscapeRouteNetwork {
      */
     public static final String IDENTIFIER_REGEX = "[A-Z]{1,6}";
 
+    private static final int START_INDEX = 0;
+    private static final int MINIMUM_IDENTIFIER_LENGTH = 1;
+    private static final int MAXIMUM_IDENTIFIER_LENGTH = 6;
+    private static final char FIRST_LETTER = 'A';
+    private static final char LAST_LETTER = 'Z';
+
     private final String uniqueIdentifier;
     private final Graph directedGraph;
     private final EscapeRouteCalculator escapeRouteCalculator;
 
     /**
      * Erstellt eine neue Instanz eines Fluchtwegenetzwerks. Jedes Fluchtwegenetzwerk hat eine eindeutige Kennung.
+     * Der gegebene Graph wird dabei nicht kopiert, sondern geht in den Besitz des Fluchtwegenetzes über und darf
+     * anschließend nur noch über dieses verändert werden.
+     * Der Zwischenspeicher berechneter Flüsse erhält die über {@link FlowResultCache#CAPACITY_PROPERTY}
+     * festgelegte maximale Anzahl an Einträgen.
      * @param uniqueIdentifier eindeutige Kennung des Fluchtwegenetzes
      * @param directedGraph gerichteter Graph
      */
     public EscapeRouteNetwork(String uniqueIdentifier, Graph directedGraph) {
+        this(uniqueIdentifier, directedGraph, FlowResultCache.getConfiguredCapacity());
+    }
+
+    /**
+     * Erstellt eine neue Instanz eines Fluchtwegenetzwerks, dessen Zwischenspeicher berechneter Flüsse eine
+     * gegebene maximale Anzahl an Einträgen hat.
+     * @param uniqueIdentifier eindeutige Kennung des Fluchtwegenetzes
+     * @param directedGraph gerichteter Graph
+     * @param cacheCapacity maximale Anzahl an Einträgen im Zwischenspeicher berechneter Flüsse, mindestens {@code 1}
+     */
+    public EscapeRouteNetwork(String uniqueIdentifier, Graph directedGraph, int cacheCapacity) {
         this.uniqueIdentifier = uniqueIdentifier;
-        this.directedGraph = directedGraph.copy();
-        this.escapeRouteCalculator = new EscapeRouteCalculator(this);
+        this.directedGraph = directedGraph;
+        this.escapeRouteCalculator = new EscapeRouteCalculator(this, cacheCapacity);
+    }
+
+    /**
+     * Überprüft ohne regulären Ausdruck, ob eine Zeichenkette eine gültige Kennung eines Fluchtwegenetzes nach
+     * {@link #IDENTIFIER_REGEX} ist.
+     * @param identifier Zeichenkette
+     * @return ob die Zeichenkette eine gültige Kennung ist
+     */
+    public static boolean isValidIdentifier(CharSequence identifier) {
+        if (identifier.length() < MINIMUM_IDENTIFIER_LENGTH || identifier.length() > MAXIMUM_IDENTIFIER_LENGTH) {
+            return false;
+        }
+        for (int i = START_INDEX; i < identifier.length(); i++) {
+            char character = identifier.charAt(i);
+            if (character < FIRST_LETTER || character > LAST_LETTER) {
+                return false;
+            }
+        }
+        return true;
     }
 
     /**
@@ -2,52 +2,67 @@ package edu.kit.informatik.escaperoutenetwork.core;
 
 
 import edu.kit.informatik.escaperoutenetwork.compare.EscapeRouteNetworkComparator;
+import edu.kit.informatik.escaperoutenetwork.graph.Edge;
 
-import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+import java.util.function.Consumer;
 
 /**
  * Modelliert einen Fluchtwegenetz-Manager, welcher alle bestehenden Fluchtwegenetze verwaltet.
+ * Die Fluchtwegenetze werden dabei über ihre Kennung in einer Hashtabelle abgelegt und zusätzlich in einer
+ * nach {@link EscapeRouteNetworkComparator} stets sortierten Menge gehalten, sodass weder das Nachschlagen
+ * noch das Auflisten aller Fluchtwegenetze einen vollständigen Durchlauf oder eine Sortierung erfordert.
  * @author Phil Gengenbach
  * @version 1.0
  */
 public final class EscapeRouteNetworkManager {
 
-    private static final int MINIMUM_INDEX = 0;
-    private static final int MINIMUM_SIZE = 1;
-    private static final String SPACE_SEPERATOR = " ";
     private static final String EMPTY_STATUS = "EMPTY";
+    private static final String SPACE_SEPERATOR = " ";
 
-    private final List<EscapeRouteNetwork> escapeRouteNetworks;
+    private final Map<String, EscapeRouteNetwork> escapeRouteNetworksByIdentifier;
+    private final NavigableSet<EscapeRouteNetwork> sortedEscapeRouteNetworks;
 
     /**
      * Erstellt eine neue Instanz eines Fluchtwege-Managers zur Verwaltung von Fluchtwegenetzen.
      */
     public EscapeRouteNetworkManager() {
-        this.escapeRouteNetworks = new ArrayList<>();
+        this.escapeRouteNetworksByIdentifier = new HashMap<>();
+        this.sortedEscapeRouteNetworks = new TreeSet<>(new EscapeRouteNetworkComparator());
     }
 
     /**
-     * Sortiert alle Fluchtwegenetze nach den Spezifikationen in {@link EscapeRouteNetworkComparator}
+     * Gibt eine nach {@link EscapeRouteNetworkComparator} sortierte Liste aller Fluchtwegenetze zurück.
+     * @return sortierte Liste aller Fluchtwegenetze
      */
-    public void sortEscapeRouteNetworks() {
-        escapeRouteNetworks.sort(new EscapeRouteNetworkComparator());
+    public List<EscapeRouteNetwork> getEscapeRouteNetworks() {
+        return List.copyOf(this.sortedEscapeRouteNetworks);
     }
 
     /**
-     * Gibt eine Liste aller Fluchtwegenetze zurück.
-     * @return Liste aller Fluchtwegenetze
+     * Fügt ein neues Fluchtwegenetz den bestehenden Fluchtwegenetzen hinzu.
+     * @param escapeRouteNetwork Fluchtwegenetz
      */
-    public List<EscapeRouteNetwork> getEscapeRouteNetworks() {
-        return List.copyOf(this.escapeRouteNetworks);
+    public void addEscapeRouteNetwork(EscapeRouteNetwork escapeRouteNetwork) {
+        escapeRouteNetworksByIdentifier.put(escapeRouteNetwork.getUniqueIdentifier(), escapeRouteNetwork);
+        sortedEscapeRouteNetworks.add(escapeRouteNetwork);
     }
 
     /**
-     * Fügt ein neues Fluchtwegenetz der Liste aller bestehenden Fluchtwegenetze hinzu.
+     * Fügt dem Graphen eines verwalteten Fluchtwegenetzes eine Kante hinzu oder überschreibt eine bestehende Kante.
+     * Da sich dabei die Anzahl an Knoten und damit die Position in der Sortierung ändern kann, wird das
+     * Fluchtwegenetz vor der Veränderung aus der sortierten Menge entfernt und anschließend neu einsortiert.
      * @param escapeRouteNetwork Fluchtwegenetz
+     * @param edge neue Kante
      */
-    public void addEscapeRouteNetwork(EscapeRouteNetwork escapeRouteNetwork) {
-        escapeRouteNetworks.add(escapeRouteNetwork);
+    public void addEdgeToEscapeRouteNetwork(EscapeRouteNetwork escapeRouteNetwork, Edge edge) {
+        sortedEscapeRouteNetworks.remove(escapeRouteNetwork);
+        escapeRouteNetwork.getDirectedGraph().addEdge(edge);
+        sortedEscapeRouteNetworks.add(escapeRouteNetwork);
     }
 
     /**
@@ -57,38 +72,61 @@ public final class EscapeRouteNetworkManager {
      * @return Fluchtwegenetz mit gegebener Kennung
      */
     public EscapeRouteNetwork getEscapeRouteNetworkByIdentifier(String uniqueIdentifier) {
-        for (EscapeRouteNetwork escapeRouteNetwork : escapeRouteNetworks) {
-            if (escapeRouteNetwork.getUniqueIdentifier().equals(uniqueIdentifier)) {
-                return escapeRouteNetwork;
-            }
-        }
-        return null;
+        return escapeRouteNetworksByIdentifier.get(uniqueIdentifier);
     }
 
     /**
      * Überprüft ob ein Fluchtwegenetz mit der dazugehörigen Kennung existiert.
      * @param uniqueIdentifier Eindeutige Kennung des Fluchtwegenetzes
-     * @return ob Fluchtwegenetz in der Liste enthalten ist
+     * @return ob Fluchtwegenetz enthalten ist
      */
     public boolean containsEscapeRouteNetworkWithIdentifier(String uniqueIdentifier) {
-        return getEscapeRouteNetworkByIdentifier(uniqueIdentifier) != null;
+        return escapeRouteNetworksByIdentifier.containsKey(uniqueIdentifier);
     }
 
-    @Override
-    public String toString() {
-        if (getEscapeRouteNetworks().isEmpty()) {
-            return EMPTY_STATUS;
+    /**
+     * Schreibt alle Fluchtwegenetze sortiert nach {@link EscapeRouteNetworkComparator} zeilenweise im Format
+     * [Kennung] [Anzahl an Knoten] abschnittsweise in eine gegebene Ausgabe.
+     * Existiert kein Fluchtwegenetz, so wird {@code EMPTY} ausgegeben.
+     * @param output Ausgabe, welche die einzelnen Abschnitte entgegennimmt
+     */
+    public void writeEscapeRouteNetworks(Consumer<CharSequence> output) {
+        if (sortedEscapeRouteNetworks.isEmpty()) {
+            output.accept(EMPTY_STATUS);
+            return;
         }
-        StringBuilder builder = new StringBuilder();
+        LineChunkWriter writer = new LineChunkWriter(output);
+        for (EscapeRouteNetwork escapeRouteNetwork : sortedEscapeRouteNetworks) {
+            writer.nextLine().append(escapeRouteNetwork.getUniqueIdentifier())
+                    .append(SPACE_SEPERATOR).append(escapeRouteNetwork.getNodeCount());
+        }
+        writer.flush();
+    }
 
-        for (int i = MINIMUM_INDEX; i < getEscapeRouteNetworks().size(); i++) {
-            EscapeRouteNetwork escapeRouteNetwork = getEscapeRouteNetworks().get(i);
-            builder.append(escapeRouteNetwork.getUniqueIdentifier()
-                    + SPACE_SEPERATOR + escapeRouteNetwork.getNodeCount());
-            if (i < getEscapeRouteNetworks().size() - MINIMUM_SIZE) {
-                builder.append(System.lineSeparator());
-            }
+    /**
+     * Schreibt die {@link FlowStatistics} aller Fluchtwegenetze sortiert nach {@link EscapeRouteNetworkComparator}
+     * zeilenweise im Format [Kennung] [Messwerte] abschnittsweise in eine gegebene Ausgabe.
+     * Existiert kein Fluchtwegenetz, so wird {@code EMPTY} ausgegeben.
+     * @param output Ausgabe, welche die einzelnen Abschnitte entgegennimmt
+     */
+    public void writeFlowStatistics(Consumer<CharSequence> output) {
+        if (sortedEscapeRouteNetworks.isEmpty()) {
+            output.accept(EMPTY_STATUS);
+            return;
+        }
+        LineChunkWriter writer = new LineChunkWriter(output);
+        for (EscapeRouteNetwork escapeRouteNetwork : sortedEscapeRouteNetworks) {
+            StringBuilder line = writer.nextLine().append(escapeRouteNetwork.getUniqueIdentifier())
+                    .append(SPACE_SEPERATOR);
+            escapeRouteNetwork.getCalculator().getFlowStatistics().appendTo(line);
         }
+        writer.flush();
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder();
+        writeEscapeRouteNetworks(builder::append);
         return builder.toString();
     }
 }
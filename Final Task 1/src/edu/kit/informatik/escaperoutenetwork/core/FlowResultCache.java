@@ -0,0 +1,252 @@
+package edu.kit.informatik.escaperoutenetwork.core;
+
+import edu.kit.informatik.escaperoutenetwork.graph.LongIndexMap;
+
+/**
+ * Modelliert einen Zwischenspeicher für berechnete maximale Flüsse eines Fluchtwegenetzes.
+ * Die Einträge werden in Einfügereihenfolge in einem Ringpuffer aus primitiven Feldern abgelegt. Eine
+ * {@link LongIndexMap} ordnet dem gepackten Schlüssel eines Start-Zielknoten-Paares die Position seines Eintrags
+ * zu, sodass beim Nachschlagen weder Schlüssel- noch Wertobjekte erzeugt werden.
+ * Die Anzahl an Einträgen ist beschränkt. Ist der Zwischenspeicher voll, so wird der älteste Eintrag verdrängt.
+ * Die Einträge können zusätzlich aufsteigend nach Fluss und anschließend nach Schlüssel sortiert abgefragt
+ * werden. Da die gepackten Kennungen lexikographisch geordnet sind, entspricht dies der Sortierung nach
+ * Fluss, Start- und Zielknoten. Die sortierte Reihenfolge wird erst bei der ersten Abfrage nach einer Änderung
+ * hergestellt, sodass viele aufeinanderfolgende Einfügevorgänge nur einmal sortiert werden.
+ * Alle Methoden sind synchronisiert.
+ * @author Phil Gengenbach
+ * @version 1.0
+ */
+public final class FlowResultCache {
+
+    /**
+     * Standardmäßige maximale Anzahl an Einträgen.
+     */
+    public static final int DEFAULT_CAPACITY = 65536;
+    /**
+     * Name der Systemeigenschaft, über welche die maximale Anzahl an Einträgen festgelegt werden kann.
+     */
+    public static final String CAPACITY_PROPERTY = "escaperoutenetwork.cache.capacity";
+    /**
+     * Schlüssel, der einen nicht vorhandenen Eintrag markiert. Gepackte Schlüssel sind nie {@code 0}.
+     */
+    public static final long NO_KEY = LongIndexMap.EMPTY_KEY;
+    /**
+     * Wert, der einen nicht vorhandenen Fluss markiert.
+     */
+    public static final long NO_FLOW = -1;
+
+    private static final int MINIMUM_CAPACITY = 1;
+    private static final int INITIAL_ORDER_SIZE = 8;
+    private static final int GROWTH_FACTOR = 2;
+    private static final int NEXT_SLOT = 1;
+    private static final int START_INDEX = 0;
+    private static final int CHILD_FACTOR = 2;
+
+    private final int capacity;
+    private final LongIndexMap positions;
+
+    private long[] entryKeys;
+    private long[] entryFlows;
+    private int insertionHead;
+    private int size;
+
+    private long[] sortedFlows;
+    private long[] sortedKeys;
+    private boolean sorted;
+
+    /**
+     * Erstellt einen neuen, leeren Zwischenspeicher mit der standardmäßigen maximalen Anzahl an Einträgen.
+     */
+    public FlowResultCache() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Erstellt einen neuen, leeren Zwischenspeicher mit einer gegebenen maximalen Anzahl an Einträgen.
+     * @param capacity maximale Anzahl an Einträgen, mindestens {@code 1}
+     */
+    public FlowResultCache(int capacity) {
+        this.capacity = capacity;
+        this.positions = new LongIndexMap();
+        clear();
+    }
+
+    /**
+     * Gibt die über die Systemeigenschaft {@link #CAPACITY_PROPERTY} festgelegte maximale Anzahl an Einträgen
+     * zurück. Ist die Eigenschaft nicht gesetzt oder keine positive Zahl, so wird {@link #DEFAULT_CAPACITY}
+     * zurückgegeben.
+     * @return festgelegte maximale Anzahl an Einträgen
+     */
+    public static int getConfiguredCapacity() {
+        int capacity = Integer.getInteger(CAPACITY_PROPERTY, DEFAULT_CAPACITY);
+        return capacity < MINIMUM_CAPACITY ? DEFAULT_CAPACITY : capacity;
+    }
+
+    /**
+     * Gibt den gespeicherten Fluss eines Start-Zielknoten-Paares zurück.
+     * @param key gepackter Schlüssel des Start-Zielknoten-Paares
+     * @return gespeicherter Fluss oder {@link #NO_FLOW}, falls kein Eintrag existiert
+     */
+    public synchronized long get(long key) {
+        int position = positions.get(key);
+        return position == LongIndexMap.NO_INDEX ? NO_FLOW : entryFlows[position];
+    }
+
+    /**
+     * Speichert den Fluss eines Start-Zielknoten-Paares. Ist der Zwischenspeicher voll, so wird zuvor der
+     * älteste Eintrag verdrängt.
+     * @param key gepackter Schlüssel des Start-Zielknoten-Paares
+     * @param flow Fluss
+     * @return Schlüssel des verdrängten Eintrags oder {@link #NO_KEY}, falls kein Eintrag verdrängt wurde
+     */
+    public synchronized long put(long key, long flow) {
+        int position = positions.get(key);
+        if (position != LongIndexMap.NO_INDEX) {
+            entryFlows[position] = flow;
+            this.sorted = false;
+            return NO_KEY;
+        }
+
+        long evictedKey = NO_KEY;
+        if (size == capacity) {
+            evictedKey = entryKeys[insertionHead];
+            positions.remove(evictedKey);
+            insertionHead = (insertionHead + NEXT_SLOT) % entryKeys.length;
+            size--;
+        }
+        if (size == entryKeys.length) {
+            growEntries();
+        }
+        position = (insertionHead + size) % entryKeys.length;
+        entryKeys[position] = key;
+        entryFlows[position] = flow;
+        positions.put(key, position);
+        this.sorted = false;
+        size++;
+        return evictedKey;
+    }
+
+    /**
+     * Entfernt alle Einträge.
+     */
+    public synchronized void clear() {
+        this.positions.clear();
+        this.entryKeys = new long[INITIAL_ORDER_SIZE];
+        this.entryFlows = new long[INITIAL_ORDER_SIZE];
+        this.insertionHead = START_INDEX;
+        this.sortedFlows = new long[INITIAL_ORDER_SIZE];
+        this.sortedKeys = new long[INITIAL_ORDER_SIZE];
+        this.sorted = true;
+        this.size = START_INDEX;
+    }
+
+    /**
+     * Gibt die Anzahl an Einträgen zurück.
+     * @return Anzahl an Einträgen
+     */
+    public synchronized int size() {
+        return size;
+    }
+
+    /**
+     * Gibt den Fluss des Eintrags an einer gegebenen Position der sortierten Reihenfolge zurück.
+     * @param position Position in der sortierten Reihenfolge
+     * @return Fluss des Eintrags
+     */
+    public synchronized long getSortedFlow(int position) {
+        ensureSorted();
+        return sortedFlows[position];
+    }
+
+    /**
+     * Gibt den Schlüssel des Eintrags an einer gegebenen Position der sortierten Reihenfolge zurück.
+     * @param position Position in der sortierten Reihenfolge
+     * @return gepackter Schlüssel des Eintrags
+     */
+    public synchronized long getSortedKey(int position) {
+        ensureSorted();
+        return sortedKeys[position];
+    }
+
+    /**
+     * Vergrößert den Ringpuffer bis höchstens zur maximalen Anzahl an Einträgen. Die Einträge werden dabei
+     * ab Position {@code 0} neu angeordnet und ihre Positionen in der Zuordnung aktualisiert.
+     */
+    private void growEntries() {
+        int newLength = Math.min(capacity, entryKeys.length * GROWTH_FACTOR);
+        long[] grownKeys = new long[newLength];
+        long[] grownFlows = new long[newLength];
+        for (int i = START_INDEX; i < size; i++) {
+            int oldPosition = (insertionHead + i) % entryKeys.length;
+            grownKeys[i] = entryKeys[oldPosition];
+            grownFlows[i] = entryFlows[oldPosition];
+            positions.put(grownKeys[i], i);
+        }
+        this.entryKeys = grownKeys;
+        this.entryFlows = grownFlows;
+        this.insertionHead = START_INDEX;
+    }
+
+    /**
+     * Stellt die sortierte Reihenfolge der Einträge her, falls sie seit der letzten Abfrage verändert wurde.
+     * Dazu werden alle Einträge aus dem Ringpuffer übernommen und über einen Heapsort auf den primitiven Feldern
+     * sortiert, sodass weder Objekte erzeugt noch zusätzlicher Speicher benötigt wird.
+     */
+    private void ensureSorted() {
+        if (sorted) {
+            return;
+        }
+        if (sortedFlows.length < size) {
+            this.sortedFlows = new long[entryKeys.length];
+            this.sortedKeys = new long[entryKeys.length];
+        }
+        for (int i = START_INDEX; i < size; i++) {
+            int position = (insertionHead + i) % entryKeys.length;
+            sortedFlows[i] = entryFlows[position];
+            sortedKeys[i] = entryKeys[position];
+        }
+        for (int root = size / CHILD_FACTOR - NEXT_SLOT; root >= START_INDEX; root--) {
+            siftDown(root, size);
+        }
+        for (int end = size - NEXT_SLOT; end > START_INDEX; end--) {
+            swapSorted(START_INDEX, end);
+            siftDown(START_INDEX, end);
+        }
+        this.sorted = true;
+    }
+
+    /**
+     * Lässt einen Eintrag im Heap so weit absinken, bis keiner seiner Nachfolger größer ist.
+     * @param root Position des Eintrags
+     * @param end Position hinter dem letzten Eintrag des Heaps
+     */
+    private void siftDown(int root, int end) {
+        int parent = root;
+        int child = parent * CHILD_FACTOR + NEXT_SLOT;
+        while (child < end) {
+            if (child + NEXT_SLOT < end && isSortedBefore(child, child + NEXT_SLOT)) {
+                child++;
+            }
+            if (!isSortedBefore(parent, child)) {
+                return;
+            }
+            swapSorted(parent, child);
+            parent = child;
+            child = parent * CHILD_FACTOR + NEXT_SLOT;
+        }
+    }
+
+    private boolean isSortedBefore(int first, int second) {
+        return sortedFlows[first] != sortedFlows[second] ? sortedFlows[first] < sortedFlows[second]
+                : sortedKeys[first] < sortedKeys[second];
+    }
+
+    private void swapSorted(int first, int second) {
+        long flow = sortedFlows[first];
+        sortedFlows[first] = sortedFlows[second];
+        sortedFlows[second] = flow;
+        long key = sortedKeys[first];
+        sortedKeys[first] = sortedKeys[second];
+        sortedKeys[second] = key;
+    }
+}
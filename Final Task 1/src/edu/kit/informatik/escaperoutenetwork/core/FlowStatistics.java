@@ -0,0 +1,102 @@
+package edu.kit.informatik.escaperoutenetwork.core;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Modelliert die über alle Flussanfragen eines Fluchtwegenetzes aufsummierten Messwerte.
+ * Für jede Anfrage wird festgehalten, ob sie aus dem Zwischenspeicher oder durch eine Berechnung beantwortet
+ * wurde, sowie ihre Laufzeit. Für jede Berechnung werden zusätzlich die Zähler des verwendeten
+ * {@link MaxFlowEngine Verfahrens} übernommen.
+ * Die Zähler können von mehreren gleichzeitig laufenden Berechnungen ohne Sperren erhöht werden.
+ * @author Phil Gengenbach
+ * @version 1.0
+ */
+public final class FlowStatistics {
+
+    private static final String SPACE_SEPERATOR = " ";
+    private static final String QUERIES_LABEL = "queries=";
+    private static final String CACHE_HITS_LABEL = "cachehits=";
+    private static final String MISSES_LABEL = "misses=";
+    private static final String AUGMENTATIONS_LABEL = "paths=";
+    private static final String PHASES_LABEL = "phases=";
+    private static final String SCANNED_ARCS_LABEL = "arcs=";
+    private static final String REBUILDS_LABEL = "rebuilds=";
+    private static final String TOTAL_TIME_LABEL = "time=";
+    private static final String MAXIMUM_TIME_LABEL = "maxtime=";
+    private static final String TIME_UNIT = "us";
+    private static final long NO_TIME = 0;
+
+    private final LongAdder queries = new LongAdder();
+    private final LongAdder cacheHits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder augmentations = new LongAdder();
+    private final LongAdder phases = new LongAdder();
+    private final LongAdder scannedArcs = new LongAdder();
+    private final LongAdder residualRebuilds = new LongAdder();
+    private final LongAdder totalNanoseconds = new LongAdder();
+    private final LongAccumulator maximumNanoseconds = new LongAccumulator(Math::max, NO_TIME);
+
+    /**
+     * Hält eine Anfrage fest, welche aus dem Zwischenspeicher beantwortet wurde.
+     */
+    public void recordCacheHit() {
+        cacheHits.increment();
+    }
+
+    /**
+     * Hält eine Anfrage fest, welche über ein Verfahren berechnet wurde, und übernimmt dessen Zähler.
+     * @param engine Verfahren, welches die Berechnung durchgeführt hat
+     */
+    public void recordComputation(MaxFlowEngine engine) {
+        misses.increment();
+        augmentations.add(engine.getAugmentationCount());
+        phases.add(engine.getPhaseCount());
+        scannedArcs.add(engine.getScannedArcCount());
+    }
+
+    /**
+     * Hält eine erneute Übersetzung des Fluchtwegenetzes in ein Flussnetzwerk fest.
+     */
+    public void recordResidualRebuild() {
+        residualRebuilds.increment();
+    }
+
+    /**
+     * Hält die Laufzeit einer abgeschlossenen Anfrage fest.
+     * @param nanoseconds Laufzeit in Nanosekunden
+     */
+    public void recordQuery(long nanoseconds) {
+        queries.increment();
+        totalNanoseconds.add(nanoseconds);
+        maximumNanoseconds.accumulate(nanoseconds);
+    }
+
+    /**
+     * Hängt alle Messwerte im Format
+     * queries=[n] cachehits=[n] misses=[n] paths=[n] phases=[n] arcs=[n] rebuilds=[n]
+     * time=[n]us maxtime=[n]us an einen gegebenen StringBuilder an.
+     * @param builder StringBuilder, an den die Messwerte angehängt werden
+     */
+    public void appendTo(StringBuilder builder) {
+        builder.append(QUERIES_LABEL).append(queries.sum())
+                .append(SPACE_SEPERATOR).append(CACHE_HITS_LABEL).append(cacheHits.sum())
+                .append(SPACE_SEPERATOR).append(MISSES_LABEL).append(misses.sum())
+                .append(SPACE_SEPERATOR).append(AUGMENTATIONS_LABEL).append(augmentations.sum())
+                .append(SPACE_SEPERATOR).append(PHASES_LABEL).append(phases.sum())
+                .append(SPACE_SEPERATOR).append(SCANNED_ARCS_LABEL).append(scannedArcs.sum())
+                .append(SPACE_SEPERATOR).append(REBUILDS_LABEL).append(residualRebuilds.sum())
+                .append(SPACE_SEPERATOR).append(TOTAL_TIME_LABEL)
+                .append(TimeUnit.NANOSECONDS.toMicros(totalNanoseconds.sum())).append(TIME_UNIT)
+                .append(SPACE_SEPERATOR).append(MAXIMUM_TIME_LABEL)
+                .append(TimeUnit.NANOSECONDS.toMicros(maximumNanoseconds.get())).append(TIME_UNIT);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder();
+        appendTo(builder);
+        return builder.toString();
+    }
+}
@@ -0,0 +1,62 @@
+package edu.kit.informatik.escaperoutenetwork.core;
+
+import java.util.function.Consumer;
+
+/**
+ * Modelliert einen Puffer, welcher zeilenweise erzeugte Ausgaben sammelt und in Abschnitten beschränkter
+ * Größe an eine Ausgabe weitergibt.
+ * Die Zeilen werden durch einen Zeilenseparator getrennt, nach der letzten Zeile folgt kein Zeilenseparator.
+ * Der Puffer wird nach jeder Weitergabe wiederverwendet, sodass der Speicherbedarf unabhängig von der Anzahl
+ * an Zeilen konstant bleibt.
+ * @author Phil Gengenbach
+ * @version 1.0
+ */
+public final class LineChunkWriter {
+
+    /**
+     * Anzahl an Zeichen, ab der ein Abschnitt an die Ausgabe weitergegeben wird.
+     */
+    public static final int CHUNK_SIZE = 8192;
+
+    private static final int EMPTY_LENGTH = 0;
+
+    private final Consumer<CharSequence> output;
+    private final StringBuilder chunk;
+    private boolean firstLine;
+
+    /**
+     * Erstellt einen neuen, leeren Puffer für eine gegebene Ausgabe.
+     * @param output Ausgabe, welche die einzelnen Abschnitte entgegennimmt
+     */
+    public LineChunkWriter(Consumer<CharSequence> output) {
+        this.output = output;
+        this.chunk = new StringBuilder(CHUNK_SIZE);
+        this.firstLine = true;
+    }
+
+    /**
+     * Beginnt eine neue Zeile und gibt den Puffer zurück, an den der Inhalt der Zeile angehängt werden kann.
+     * Ist der Puffer zuvor voll, so wird er vorher an die Ausgabe weitergegeben.
+     * @return Puffer, an den die Zeile angehängt wird
+     */
+    public StringBuilder nextLine() {
+        if (chunk.length() >= CHUNK_SIZE) {
+            flush();
+        }
+        if (!firstLine) {
+            chunk.append(System.lineSeparator());
+        }
+        firstLine = false;
+        return chunk;
+    }
+
+    /**
+     * Gibt alle noch gepufferten Zeichen an die Ausgabe weiter.
+     */
+    public void flush() {
+        if (chunk.length() > EMPTY_LENGTH) {
+            output.accept(chunk);
+            chunk.setLength(EMPTY_LENGTH);
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package edu.kit.informatik.escaperoutenetwork.core;
+
+import edu.kit.informatik.escaperoutenetwork.graph.FlowNetwork;
+
+/**
+ * Modelliert ein austauschbares Verfahren zur Berechnung des maximalen Flusses
+ * von einem Start- zu einem Zielknoten innerhalb eines übersetzten Flussnetzwerks.
+ * Jede Berechnung führt Zähler über die geleistete Arbeit, welche nach der Berechnung abgefragt werden können.
+ * @author Phil Gengenbach
+ * @version 1.0
+ */
+public interface MaxFlowEngine {
+
+    /**
+     * Berechnet den maximalen Fluss von einem gegebenen Start- zu einem gegebenen Zielknoten.
+     * Der Fluss wird dabei ausgehend vom aktuellen Fluss des Netzwerks erhöht und in das Netzwerk geschrieben.
+     * @param network Flussnetzwerk des Fluchtwegenetzes
+     * @param source Index des Startknotens
+     * @param sink Index des Zielknotens
+     * @return Maximaler Fluss vom Start- zum Zielknoten
+     */
+    long calculateMaximumFlow(FlowNetwork network, int source, int sink);
+
+    /**
+     * Gibt die Anzahl der Flusserhöhungen der letzten Berechnung zurück, also der augmentierten Pfade oder, bei
+     * Push-Relabel-Verfahren, der Schiebeoperationen.
+     * @return Anzahl an Flusserhöhungen
+     */
+    long getAugmentationCount();
+
+    /**
+     * Gibt die Anzahl der Suchphasen der letzten Berechnung zurück, also der Breitensuchen im
+     * Restkapazitätennetzwerk oder, bei Push-Relabel-Verfahren, der globalen Höhenneuberechnungen.
+     * @return Anzahl an Suchphasen
+     */
+    long getPhaseCount();
+
+    /**
+     * Gibt die Anzahl der während der letzten Berechnung betrachteten Kanten zurück.
+     * @return Anzahl betrachteter Kanten
+     */
+    long getScannedArcCount();
+}
@@ -0,0 +1,66 @@
+package edu.kit.informatik.escaperoutenetwork.core;
+
+import java.util.function.Supplier;
+
+/**
+ * Alle verfügbaren Verfahren zur Berechnung des maximalen Flusses.
+ * Jedes Verfahren ist über einen eindeutigen Namen auswählbar.
+ * @author Phil Gengenbach
+ * @version 1.0
+ */
+public enum MaxFlowEngineType {
+
+    /**
+     * Edmonds-Karp-Algorithmus über kürzeste augmentierende Pfade.
+     */
+    EDMONDS_KARP("edmondskarp", EdmondsKarpEngine::new),
+    /**
+     * Dinic-Algorithmus über Niveaugraphen und blockierende Flüsse.
+     */
+    DINIC("dinic", DinicEngine::new),
+    /**
+     * Push-Relabel-Algorithmus mit Highest-Label-Auswahl, Lücken-Heuristik und globaler Höhenneuberechnung.
+     */
+    PUSH_RELABEL("pushrelabel", PushRelabelEngine::new);
+
+    private final String name;
+    private final Supplier<MaxFlowEngine> engineSupplier;
+
+    /**
+     * Erstellt ein neues Verfahren mit einem gegebenen Namen.
+     * @param name eindeutiger Name des Verfahrens
+     * @param engineSupplier Erzeuger einer neuen Berechnungsinstanz
+     */
+    MaxFlowEngineType(final String name, final Supplier<MaxFlowEngine> engineSupplier) {
+        this.name = name;
+        this.engineSupplier = engineSupplier;
+    }
+
+    /**
+     * Erstellt eine neue Berechnungsinstanz des Verfahrens.
+     * @return neue Berechnungsinstanz
+     */
+    public MaxFlowEngine createEngine() {
+        return engineSupplier.get();
+    }
+
+    /**
+     * Ermittelt ein Verfahren anhand seines eindeutigen Namens.
+     * Existiert kein Verfahren mit dem gegebenen Namen, so wird {@code null} zurückgegeben.
+     * @param name Name des Verfahrens
+     * @return Verfahren mit gegebenem Namen
+     */
+    public static MaxFlowEngineType fromName(String name) {
+        for (MaxFlowEngineType engineType : values()) {
+            if (engineType.name.equals(name)) {
+                return engineType;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public String toString() {
+        return this.name;
+    }
+}
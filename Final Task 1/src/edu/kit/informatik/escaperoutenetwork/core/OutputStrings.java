@@ -15,7 +15,19 @@ public enum OutputStrings {
     /**
      * Eine neue Kante wurde einem bereits bestehendem Fluchtwegenetz hinzugefügt.
      */
-    ADDED_EDGE("Added new section %1$s to escape network %2$s.");
+    ADDED_EDGE("Added new section %1$s to escape network %2$s."),
+    /**
+     * Die maximalen Flüsse aller Start-Zielknoten-Paare eines Fluchtwegenetzes wurden vorberechnet.
+     */
+    INDEXED_NETWORK("Indexed %1$d flows of escape network %2$s."),
+    /**
+     * Alle Befehle eines Skripts wurden ausgeführt.
+     */
+    EXECUTED_SCRIPT("Executed %2$d commands of script %1$s with %3$d errors."),
+    /**
+     * Ein neues Fluchtwegenetz wurde aus einer Datei importiert.
+     */
+    IMPORTED_NETWORK("Imported new escape network %1$s with %2$d sections.");
 
     private final String text;
 
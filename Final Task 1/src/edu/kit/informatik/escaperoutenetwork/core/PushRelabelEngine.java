@@ -0,0 +1,276 @@
+package edu.kit.informatik.escaperoutenetwork.core;
+
+import edu.kit.informatik.escaperoutenetwork.graph.FlowNetwork;
+
+import java.util.Arrays;
+
+/**
+ * Modelliert eine Berechnung des maximalen Flusses über eine Implementation des Push-Relabel-Algorithmus.
+ * Aktive Knoten werden dabei nach absteigender Höhe abgearbeitet (Highest-Label).
+ * Zusätzlich werden die Lücken-Heuristik, welche beim Leerwerden einer Höhenstufe alle darüberliegenden
+ * Knoten vom Zielknoten abschneidet, und eine periodische globale Neuberechnung aller Höhen per
+ * Rückwärts-Breitensuche vom Zielknoten aus verwendet.
+ * In einer ersten Phase wird so viel Überschuss wie möglich zum Zielknoten geschoben, womit der Wert des
+ * maximalen Flusses feststeht. In einer zweiten Phase wird der verbliebene Überschuss auf dieselbe Weise zum
+ * Startknoten zurückgeführt, sodass im Netzwerk ein gültiger Fluss verbleibt, auf dem weitere Berechnungen
+ * aufbauen können.
+ * @author Phil Gengenbach
+ * @version 1.0
+ */
+public final class PushRelabelEngine implements MaxFlowEngine {
+
+    private static final int NO_NODE = -1;
+    private static final int START_INDEX = 0;
+    private static final int NEXT_HEIGHT = 1;
+    private static final int NEXT_ARC = 1;
+    private static final long NO_EXCESS = 0;
+    private static final long INITIAL_COUNT = 0;
+
+    private FlowNetwork network;
+    private int nodeCount;
+    private int source;
+    private int sink;
+
+    /**
+     * Knoten, zu dem der Überschuss in der aktuellen Phase geschoben wird.
+     */
+    private int excessTarget;
+    /**
+     * Knoten, welcher in der aktuellen Phase keinen Überschuss aufnehmen darf.
+     */
+    private int excludedNode;
+
+    private int[] height;
+    private long[] excess;
+    private int[] currentArc;
+    private int[] heightCount;
+    private int[] activeBucket;
+    private int[] nextActive;
+    private int[] queue;
+    private int highestActiveHeight;
+    private int relabelsSinceGlobalUpdate;
+    private long augmentationCount;
+    private long phaseCount;
+    private long scannedArcCount;
+
+    @Override
+    public long calculateMaximumFlow(FlowNetwork network, int source, int sink) {
+        this.network = network;
+        this.nodeCount = network.getNodeCount();
+        this.source = source;
+        this.sink = sink;
+
+        this.height = new int[nodeCount];
+        this.excess = new long[nodeCount];
+        this.currentArc = new int[nodeCount];
+        this.heightCount = new int[nodeCount];
+        this.activeBucket = new int[nodeCount];
+        this.nextActive = new int[nodeCount];
+        this.queue = new int[nodeCount];
+        this.augmentationCount = INITIAL_COUNT;
+        this.phaseCount = INITIAL_COUNT;
+        this.scannedArcCount = INITIAL_COUNT;
+
+        for (int node = START_INDEX; node < nodeCount; node++) {
+            excess[node] = network.getNetInflow(node);
+        }
+        saturateSourceArcs();
+        pushExcessTowards(sink, source);
+        pushExcessTowards(source, sink);
+        return network.getNetInflow(sink);
+    }
+
+    @Override
+    public long getAugmentationCount() {
+        return augmentationCount;
+    }
+
+    @Override
+    public long getPhaseCount() {
+        return phaseCount;
+    }
+
+    @Override
+    public long getScannedArcCount() {
+        return scannedArcCount;
+    }
+
+    /**
+     * Lastet alle vom Startknoten ausgehenden Kanten vollständig aus.
+     */
+    private void saturateSourceArcs() {
+        for (int arc = network.getFirstArc(source); arc < network.getEndArc(source); arc++) {
+            long capacity = network.getRemainingCapacity(arc);
+            if (capacity > NO_EXCESS) {
+                network.augment(arc, capacity);
+                augmentationCount++;
+                excess[network.getTarget(arc)] += capacity;
+                excess[source] -= capacity;
+            }
+        }
+    }
+
+    /**
+     * Schiebt den Überschuss aller aktiven Knoten so weit wie möglich zu einem gegebenen Knoten.
+     * @param target Knoten, zu dem der Überschuss geschoben wird
+     * @param excluded Knoten, welcher keinen Überschuss aufnehmen darf
+     */
+    private void pushExcessTowards(int target, int excluded) {
+        this.excessTarget = target;
+        this.excludedNode = excluded;
+        globalRelabel();
+
+        while (highestActiveHeight >= START_INDEX) {
+            int node = activeBucket[highestActiveHeight];
+            if (node == NO_NODE) {
+                highestActiveHeight--;
+                continue;
+            }
+            activeBucket[highestActiveHeight] = nextActive[node];
+            if (height[node] != highestActiveHeight || excess[node] == NO_EXCESS) {
+                //Veralteter Eintrag, der Knoten wurde durch die Lücken-Heuristik angehoben
+                continue;
+            }
+            discharge(node);
+            if (relabelsSinceGlobalUpdate > nodeCount) {
+                globalRelabel();
+            }
+        }
+    }
+
+    /**
+     * Berechnet die Höhe jedes Knotens neu als Abstand zum Zielknoten der Phase im Restkapazitätennetzwerk.
+     * Knoten, welche diesen nicht mehr erreichen können, erhalten die Höhe der Knotenanzahl und
+     * werden nicht weiter betrachtet. Anschließend werden alle aktiven Knoten neu einsortiert.
+     */
+    private void globalRelabel() {
+        Arrays.fill(height, nodeCount);
+        Arrays.fill(heightCount, START_INDEX);
+        int queueHead = START_INDEX;
+        int queueTail = START_INDEX;
+        height[excessTarget] = START_INDEX;
+        queue[queueTail++] = excessTarget;
+        phaseCount++;
+
+        while (queueHead < queueTail) {
+            int node = queue[queueHead++];
+            heightCount[height[node]]++;
+            scannedArcCount += network.getEndArc(node) - network.getFirstArc(node);
+            for (int arc = network.getFirstArc(node); arc < network.getEndArc(node); arc++) {
+                int arcTarget = network.getTarget(arc);
+                long reverseRemainingCapacity = network.getRemainingCapacity(network.getReverseArc(arc));
+                if (reverseRemainingCapacity > NO_EXCESS && height[arcTarget] == nodeCount
+                        && arcTarget != excludedNode) {
+                    height[arcTarget] = height[node] + NEXT_HEIGHT;
+                    queue[queueTail++] = arcTarget;
+                }
+            }
+        }
+
+        Arrays.fill(activeBucket, NO_NODE);
+        highestActiveHeight = NO_NODE;
+        for (int node = START_INDEX; node < nodeCount; node++) {
+            currentArc[node] = network.getFirstArc(node);
+            if (excess[node] > NO_EXCESS) {
+                activate(node);
+            }
+        }
+        relabelsSinceGlobalUpdate = START_INDEX;
+    }
+
+    /**
+     * Sortiert einen Knoten mit Überschuss in die Stufe seiner Höhe ein, sofern es sich nicht um einen der
+     * beiden Endknoten handelt und er den Zielknoten der Phase noch erreichen kann.
+     * @param node Knoten
+     */
+    private void activate(int node) {
+        if (node == source || node == sink || height[node] >= nodeCount) {
+            return;
+        }
+        nextActive[node] = activeBucket[height[node]];
+        activeBucket[height[node]] = node;
+        highestActiveHeight = Math.max(highestActiveHeight, height[node]);
+    }
+
+    /**
+     * Schiebt den gesamten Überschuss eines Knotens über zulässige Kanten weiter
+     * und hebt den Knoten an, falls keine zulässige Kante mehr existiert.
+     * @param node Knoten
+     */
+    private void discharge(int node) {
+        while (excess[node] > NO_EXCESS) {
+            int arc = currentArc[node];
+            if (arc == network.getEndArc(node)) {
+                relabel(node);
+                if (height[node] >= nodeCount) {
+                    return;
+                }
+                continue;
+            }
+
+            scannedArcCount++;
+            int arcTarget = network.getTarget(arc);
+            long remainingCapacity = network.getRemainingCapacity(arc);
+            if (remainingCapacity > NO_EXCESS && height[node] == height[arcTarget] + NEXT_HEIGHT) {
+                long pushValue = Math.min(excess[node], remainingCapacity);
+                boolean targetWasInactive = excess[arcTarget] == NO_EXCESS;
+                network.augment(arc, pushValue);
+                augmentationCount++;
+                excess[node] -= pushValue;
+                excess[arcTarget] += pushValue;
+                if (targetWasInactive) {
+                    activate(arcTarget);
+                }
+                if (excess[node] == NO_EXCESS) {
+                    return;
+                }
+            }
+            currentArc[node] = arc + NEXT_ARC;
+        }
+    }
+
+    /**
+     * Hebt einen Knoten auf die minimale Höhe an, die eine zulässige Kante ermöglicht.
+     * Wird dabei eine Höhenstufe leer, so werden alle Knoten oberhalb dieser Stufe über die
+     * Lücken-Heuristik vom Zielknoten der Phase abgeschnitten.
+     * @param node Knoten
+     */
+    private void relabel(int node) {
+        int oldHeight = height[node];
+        int newHeight = nodeCount;
+        scannedArcCount += network.getEndArc(node) - network.getFirstArc(node);
+        for (int arc = network.getFirstArc(node); arc < network.getEndArc(node); arc++) {
+            if (network.getRemainingCapacity(arc) > NO_EXCESS) {
+                newHeight = Math.min(newHeight, height[network.getTarget(arc)] + NEXT_HEIGHT);
+            }
+        }
+
+        heightCount[oldHeight]--;
+        relabelsSinceGlobalUpdate++;
+        if (heightCount[oldHeight] == START_INDEX) {
+            closeGap(oldHeight);
+            height[node] = nodeCount;
+            return;
+        }
+
+        height[node] = Math.min(newHeight, nodeCount);
+        if (height[node] < nodeCount) {
+            heightCount[height[node]]++;
+        }
+        currentArc[node] = network.getFirstArc(node);
+    }
+
+    /**
+     * Hebt alle Knoten oberhalb einer leeren Höhenstufe auf die Höhe der Knotenanzahl an,
+     * da von diesen Knoten aus der Zielknoten der Phase nicht mehr erreichbar ist.
+     * @param emptyHeight leere Höhenstufe
+     */
+    private void closeGap(int emptyHeight) {
+        for (int node = START_INDEX; node < nodeCount; node++) {
+            if (height[node] > emptyHeight && height[node] < nodeCount) {
+                heightCount[height[node]]--;
+                height[node] = nodeCount;
+            }
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package edu.kit.informatik.escaperoutenetwork.core;
+
+import java.util.Arrays;
+
+/**
+ * Modelliert einen wiederverwendbaren Arbeitsspeicher für Breitensuchen in einem Flussnetzwerk.
+ * Die Warteschlange ist als Ringpuffer umgesetzt, für jeden Knoten wird die Kante gespeichert, über die er
+ * entdeckt wurde. Besuchte Knoten werden mit der Nummer der aktuellen Suche markiert, sodass zu Beginn einer
+ * neuen Suche keine Felder zurückgesetzt werden müssen.
+ * Wiederholte Suchen erzeugen damit keine neuen Objekte.
+ * @author Phil Gengenbach
+ * @version 1.0
+ */
+public final class SearchWorkspace {
+
+    /**
+     * Kante, über die der Startknoten einer Suche entdeckt wurde.
+     */
+    public static final int NO_ARC = -1;
+
+    private static final int MINIMUM_CAPACITY = 1;
+    private static final int CAPACITY_FACTOR = 2;
+    private static final int UNVISITED_EPOCH = 0;
+    private static final int NEXT_EPOCH = 1;
+
+    private final int[] queue;
+    private final int queueMask;
+    private final int[] parentArcs;
+    private final int[] visitedEpochs;
+    private int currentEpoch;
+    private int queueHead;
+    private int queueTail;
+
+    /**
+     * Erstellt einen neuen Arbeitsspeicher für Suchen in einem Flussnetzwerk mit gegebener Knotenanzahl.
+     * @param nodeCount Anzahl an Knoten des Flussnetzwerks
+     */
+    public SearchWorkspace(int nodeCount) {
+        int queueCapacity = Integer.highestOneBit(Math.max(nodeCount, MINIMUM_CAPACITY));
+        if (queueCapacity < nodeCount) {
+            queueCapacity *= CAPACITY_FACTOR;
+        }
+        this.queue = new int[queueCapacity];
+        this.queueMask = queueCapacity - MINIMUM_CAPACITY;
+        this.parentArcs = new int[nodeCount];
+        this.visitedEpochs = new int[nodeCount];
+        this.currentEpoch = UNVISITED_EPOCH;
+    }
+
+    /**
+     * Beginnt eine neue Suche ausgehend von einem gegebenen Startknoten.
+     * Alle Knoten gelten danach wieder als unbesucht, die Warteschlange enthält nur den Startknoten.
+     * @param source Startknoten
+     */
+    public void beginSearch(int source) {
+        if (currentEpoch == Integer.MAX_VALUE) {
+            Arrays.fill(visitedEpochs, UNVISITED_EPOCH);
+            currentEpoch = UNVISITED_EPOCH;
+        }
+        currentEpoch += NEXT_EPOCH;
+        queueHead = queueTail;
+        visit(source, NO_ARC);
+    }
+
+    /**
+     * Überprüft, ob ein Knoten in der aktuellen Suche bereits besucht wurde.
+     * @param node Knoten
+     * @return ob der Knoten bereits besucht wurde
+     */
+    public boolean isVisited(int node) {
+        return visitedEpochs[node] == currentEpoch;
+    }
+
+    /**
+     * Markiert einen Knoten als besucht, merkt sich die Kante, über die er entdeckt wurde,
+     * und hängt ihn an die Warteschlange an.
+     * @param node Knoten
+     * @param parentArc Kante, über die der Knoten entdeckt wurde
+     */
+    public void visit(int node, int parentArc) {
+        visitedEpochs[node] = currentEpoch;
+        parentArcs[node] = parentArc;
+        queue[queueTail & queueMask] = node;
+        queueTail++;
+    }
+
+    /**
+     * Überprüft, ob sich noch Knoten in der Warteschlange befinden.
+     * @return ob die Warteschlange noch Knoten enthält
+     */
+    public boolean hasQueuedNodes() {
+        return queueHead != queueTail;
+    }
+
+    /**
+     * Entnimmt den vordersten Knoten der Warteschlange.
+     * @return vorderster Knoten der Warteschlange
+     */
+    public int poll() {
+        int node = queue[queueHead & queueMask];
+        queueHead++;
+        return node;
+    }
+
+    /**
+     * Gibt die Kante zurück, über die ein Knoten in der aktuellen Suche entdeckt wurde.
+     * @param node Knoten
+     * @return Kante, über die der Knoten entdeckt wurde, oder {@link #NO_ARC} für den Startknoten
+     */
+    public int getParentArc(int node) {
+        return parentArcs[node];
+    }
+}
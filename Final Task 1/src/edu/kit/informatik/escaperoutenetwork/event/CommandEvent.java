@@ -0,0 +1,85 @@
+package edu.kit.informatik.escaperoutenetwork.event;
+
+import edu.kit.informatik.escaperoutenetwork.core.Result;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Modelliert ein Ereignis des Java Flight Recorders, welches das Einlesen und die Ausführung eines Befehls
+ * umfasst. Das Ereignis hält neben dem Befehlsnamen die Kennung des betroffenen Fluchtwegenetzes, die Größe der
+ * Argumente und die Größe der Nachricht des Ergebnisses fest.
+ * Wird die Nachricht erst bei der Ausgabe abschnittsweise erzeugt, so ist ihre Größe bei Ende der Ausführung
+ * noch unbekannt und wird stattdessen über ein {@link CommandOutputEvent} erfasst.
+ * @author Phil Gengenbach
+ * @version 1.0
+ */
+@Name(CommandEvent.NAME)
+@Label("Command")
+@Category({EventCategories.APPLICATION, EventCategories.COMMANDS})
+@Description("Parsing and execution of a single command")
+@StackTrace(false)
+public final class CommandEvent extends Event {
+
+    /**
+     * Eindeutiger Name des Ereignisses.
+     */
+    public static final String NAME = "edu.kit.informatik.escaperoutenetwork.Command";
+
+    private static final int NETWORK_ARGUMENT = 0;
+
+    @Label("Command Name")
+    private final String commandName;
+    @Label("Network")
+    @Description("Identifier given as first argument, if any")
+    private final String networkIdentifier;
+    @Label("Argument Count")
+    private final int argumentCount;
+    @Label("Argument Size")
+    @Description("Number of characters of all arguments")
+    private final int argumentSize;
+    @Label("Success")
+    private boolean success;
+    @Label("Streamed Result")
+    @Description("Whether the result message is only created while it is written")
+    private boolean streamed;
+    @Label("Result Size")
+    @Description("Number of characters of the result message, unless it is streamed")
+    private long resultSize;
+
+    /**
+     * Erstellt ein neues Ereignis für einen Befehl mit gegebenen Argumenten.
+     * @param commandName Name des Befehls
+     * @param arguments Argumente des Befehls
+     * @param argumentSize Anzahl an Zeichen aller Argumente
+     */
+    public CommandEvent(String commandName, String[] arguments, int argumentSize) {
+        this.commandName = commandName;
+        this.networkIdentifier = arguments.length > NETWORK_ARGUMENT ? arguments[NETWORK_ARGUMENT] : null;
+        this.argumentCount = arguments.length;
+        this.argumentSize = argumentSize;
+    }
+
+    /**
+     * Hält das Ergebnis der Befehlsausführung fest.
+     * @param result Ergebnis der Befehlsausführung
+     */
+    public void recordResult(Result result) {
+        this.success = result.getType() == Result.ResultType.SUCCESS;
+        this.streamed = result.isStreamed();
+        if (!streamed && result.hasMessage()) {
+            this.resultSize = result.getMessage().length();
+        }
+    }
+
+    /**
+     * Gibt die Kennung des betroffenen Fluchtwegenetzes zurück.
+     * @return Kennung des Fluchtwegenetzes oder {@code null}, falls der Befehl keine Argumente hat
+     */
+    public String getNetworkIdentifier() {
+        return networkIdentifier;
+    }
+}
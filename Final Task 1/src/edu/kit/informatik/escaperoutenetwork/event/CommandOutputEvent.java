@@ -0,0 +1,69 @@
+package edu.kit.informatik.escaperoutenetwork.event;
+
+import edu.kit.informatik.escaperoutenetwork.core.Result;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Modelliert ein Ereignis des Java Flight Recorders, welches die abschnittsweise Ausgabe der Nachricht eines
+ * Ergebnisses umfasst. Da die Nachricht dabei erst erzeugt wird, hält das Ereignis neben deren Größe auch die
+ * dafür benötigte Zeit fest.
+ * @author Phil Gengenbach
+ * @version 1.0
+ */
+@Name(CommandOutputEvent.NAME)
+@Label("Command Output")
+@Category({EventCategories.APPLICATION, EventCategories.COMMANDS})
+@Description("Creation and output of a streamed command result")
+@StackTrace(false)
+public final class CommandOutputEvent extends Event {
+
+    /**
+     * Eindeutiger Name des Ereignisses.
+     */
+    public static final String NAME = "edu.kit.informatik.escaperoutenetwork.CommandOutput";
+
+    @Label("Command Name")
+    private final String commandName;
+    @Label("Network")
+    private final String networkIdentifier;
+    @Label("Result Size")
+    @Description("Number of characters of the result message")
+    private long resultSize;
+
+    private CommandOutputEvent(String commandName, String networkIdentifier) {
+        this.commandName = commandName;
+        this.networkIdentifier = networkIdentifier;
+    }
+
+    /**
+     * Gibt ein Ergebnis zurück, dessen abschnittsweise Ausgabe jeweils ein Ereignis erzeugt.
+     * Ergebnisse ohne abschnittsweise erzeugte Nachricht werden unverändert zurückgegeben.
+     * @param commandName Name des Befehls
+     * @param networkIdentifier Kennung des betroffenen Fluchtwegenetzes
+     * @param result Ergebnis der Befehlsausführung
+     * @return beobachtetes Ergebnis
+     */
+    public static Result observe(String commandName, String networkIdentifier, Result result) {
+        if (!result.isStreamed()) {
+            return result;
+        }
+        return new Result(result.getType(), output -> {
+            CommandOutputEvent event = new CommandOutputEvent(commandName, networkIdentifier);
+            if (!event.isEnabled()) {
+                result.writeMessageTo(output);
+                return;
+            }
+            event.begin();
+            result.writeMessageTo(chunk -> {
+                event.resultSize += chunk.length();
+                output.accept(chunk);
+            });
+            event.commit();
+        });
+    }
+}
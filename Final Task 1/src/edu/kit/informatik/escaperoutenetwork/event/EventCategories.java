@@ -0,0 +1,32 @@
+package edu.kit.informatik.escaperoutenetwork.event;
+
+import edu.kit.informatik.escaperoutenetwork.exception.ErrorMessages;
+
+/**
+ * Bündelt die Kategorien, unter denen die Ereignisse des Java Flight Recorders in einer Aufzeichnung
+ * gruppiert werden.
+ * @author Phil Gengenbach
+ * @version 1.0
+ */
+public final class EventCategories {
+
+    /**
+     * Oberste Kategorie aller Ereignisse des Programms.
+     */
+    public static final String APPLICATION = "Escape Route Network";
+    /**
+     * Kategorie der Ereignisse zur Befehlsausführung.
+     */
+    public static final String COMMANDS = "Commands";
+    /**
+     * Kategorie der Ereignisse zur Berechnung maximaler Flüsse.
+     */
+    public static final String FLOW = "Flow";
+
+    /**
+     * Privater Konstruktor, da Utillity Klasse
+     */
+    private EventCategories() {
+        throw new IllegalStateException(ErrorMessages.ILLEGAL_STATE.toString());
+    }
+}
@@ -0,0 +1,97 @@
+package edu.kit.informatik.escaperoutenetwork.event;
+
+import edu.kit.informatik.escaperoutenetwork.core.MaxFlowEngine;
+import edu.kit.informatik.escaperoutenetwork.core.MaxFlowEngineType;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Modelliert ein Ereignis des Java Flight Recorders, welches eine einzelne Flussanfrage umfasst.
+ * Das Ereignis hält fest, ob die Anfrage aus dem Zwischenspeicher oder durch eine Berechnung beantwortet wurde,
+ * und übernimmt für jede Berechnung die Zähler des verwendeten {@link MaxFlowEngine Verfahrens}.
+ * Innerhalb eines Befehls liegt es im selben Thread zeitlich in dessen {@link CommandEvent}, bei parallelen
+ * Anfragen des flowall- und index-Befehls in einem Thread des Thread-Pools.
+ * @author Phil Gengenbach
+ * @version 1.0
+ */
+@Name(FlowEvent.NAME)
+@Label("Flow Query")
+@Category({EventCategories.APPLICATION, EventCategories.FLOW})
+@Description("Maximum flow query between a start and an end node")
+@StackTrace(false)
+public final class FlowEvent extends Event {
+
+    /**
+     * Eindeutiger Name des Ereignisses.
+     */
+    public static final String NAME = "edu.kit.informatik.escaperoutenetwork.Flow";
+
+    private static final String CACHE_ANSWER = "cache";
+    private static final String ENGINE_ANSWER = "engine";
+
+    @Label("Network")
+    private final String networkIdentifier;
+    @Label("Start Node")
+    private String startNode;
+    @Label("End Node")
+    private String endNode;
+    @Label("Engine")
+    private final String engine;
+    @Label("Answered By")
+    @Description("cache or engine")
+    private String answer;
+    @Label("Maximum Flow")
+    private long maximumFlow;
+    @Label("Augmenting Paths")
+    private long augmentations;
+    @Label("Phases")
+    private long phases;
+    @Label("Scanned Arcs")
+    private long scannedArcs;
+
+    /**
+     * Erstellt ein neues Ereignis für eine Flussanfrage.
+     * @param networkIdentifier Kennung des Fluchtwegenetzes
+     * @param engineType Verfahren zur Berechnung des maximalen Flusses
+     */
+    public FlowEvent(String networkIdentifier, MaxFlowEngineType engineType) {
+        this.networkIdentifier = networkIdentifier;
+        this.engine = engineType.toString();
+    }
+
+    /**
+     * Hält fest, dass die Anfrage aus dem Zwischenspeicher beantwortet wurde.
+     */
+    public void recordCacheHit() {
+        this.answer = CACHE_ANSWER;
+    }
+
+    /**
+     * Hält fest, dass die Anfrage über ein Verfahren berechnet wurde, und übernimmt dessen Zähler.
+     * @param flowEngine Verfahren, welches die Berechnung durchgeführt hat
+     */
+    public void recordComputation(MaxFlowEngine flowEngine) {
+        this.answer = ENGINE_ANSWER;
+        this.augmentations = flowEngine.getAugmentationCount();
+        this.phases = flowEngine.getPhaseCount();
+        this.scannedArcs = flowEngine.getScannedArcCount();
+    }
+
+    /**
+     * Setzt die Start- und Zielknoten der Anfrage sowie den ermittelten maximalen Fluss.
+     * Um die Kennungen nur bei Bedarf zu erzeugen, wird dies erst aufgerufen, wenn das Ereignis tatsächlich
+     * aufgezeichnet wird.
+     * @param startNode Kennung des Startknotens
+     * @param endNode Kennung des Zielknotens
+     * @param maximumFlow maximaler Fluss vom Start- zum Zielknoten
+     */
+    public void setQuery(String startNode, String endNode, long maximumFlow) {
+        this.startNode = startNode;
+        this.endNode = endNode;
+        this.maximumFlow = maximumFlow;
+    }
+}
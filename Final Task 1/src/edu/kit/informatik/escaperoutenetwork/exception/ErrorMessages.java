@@ -48,10 +48,50 @@ public enum ErrorMessages {
      * Dieses Netzwerk existiert nicht.
      */
     NETWORK_DOES_NOT_EXIST("this network does not exist."),
+    /**
+     * Dieses Verfahren zur Berechnung des maximalen Flusses existiert nicht.
+     */
+    ENGINE_DOES_NOT_EXIST("this max-flow engine does not exist."),
     /**
      * Kennung ist nicht eindeutig.
      */
     INVALID_IDENTIFIER("this identifier is not unique."),
+    /**
+     * Ein Skript konnte nicht gelesen werden.
+     */
+    SCRIPT_NOT_READABLE("the script %s could not be read."),
+    /**
+     * Ein Befehl eines Skripts ist fehlgeschlagen.
+     */
+    SCRIPT_COMMAND_FAILED("%1$s line %2$d: %3$s"),
+    /**
+     * Eine Zeile eines Skripts konnte nicht gelesen werden.
+     */
+    SCRIPT_LINE_NOT_READABLE("%1$s line %2$d could not be read."),
+    /**
+     * Eine Datei konnte nicht gelesen werden.
+     */
+    FILE_NOT_READABLE("the file %s could not be read."),
+    /**
+     * Eine Zeile einer importierten Datei ist fehlerhaft.
+     */
+    IMPORT_LINE_FAILED("line %1$d: %2$s"),
+    /**
+     * Eine importierte Datei enthält ein Zeichen außerhalb des ASCII-Zeichensatzes.
+     */
+    NON_ASCII_CHARACTER("the file contains a non-ASCII character."),
+    /**
+     * Ein Fluchtwegenetz mit dieser Kennung existiert bereits.
+     */
+    NETWORK_ALREADY_EXISTS("this network already exists."),
+    /**
+     * Ungültige Option oder ungültiger Wert einer Option des Erzeugers von Fluchtwegenetzen.
+     */
+    INVALID_GENERATOR_OPTION("invalid generator option %s."),
+    /**
+     * Eine Datei konnte nicht geschrieben werden.
+     */
+    FILE_NOT_WRITABLE("the file %s could not be written."),
     /**
      * Ungültiger Programmzustand
      */
@@ -0,0 +1,73 @@
+package edu.kit.informatik.escaperoutenetwork.generator;
+
+/**
+ * Alle Graphfamilien, aus denen synthetische Fluchtwegenetze für Last- und Skalierungstests erzeugt werden.
+ * Jede Familie ist über einen eindeutigen Namen auswählbar.
+ * @author Phil Gengenbach
+ * @version 1.0
+ */
+public enum GraphFamily {
+
+    /**
+     * Gebäude aus gleich breiten Stockwerken, deren Räume jeweils mit zwei Räumen des nächsten Stockwerks
+     * verbunden sind.
+     */
+    LAYERED_BUILDING("layered"),
+    /**
+     * Quadratisches Gitter, dessen Kanten nach rechts und nach unten zeigen.
+     */
+    GRID("grid"),
+    /**
+     * Zufälliger dünn besetzter Graph mit durchschnittlich vier ausgehenden Kanten je Knoten.
+     */
+    RANDOM_SPARSE("sparse"),
+    /**
+     * Zufälliger dicht besetzter Graph, welcher etwa die Hälfte aller möglichen Kanten enthält.
+     */
+    RANDOM_DENSE("dense"),
+    /**
+     * Mehrstöckiges Gebäude, dessen Räume über einen Flur je Stockwerk an zwei Treppenhäuser angebunden sind,
+     * welche bis zum Ausgang im Erdgeschoss führen.
+     */
+    STAIRWELL_BUILDING("building"),
+    /**
+     * Gelände aus mehreren Gebäuden mit Treppenhäusern, deren Ausgänge über ein Wegenetz zu mehreren
+     * Sammelplätzen führen.
+     */
+    CAMPUS("campus"),
+    /**
+     * Ungünstigster Fall für Verfahren über kürzeste augmentierende Pfade: Parallele Pfade paarweise
+     * verschiedener Länge, sodass jede Breitensuche genau einen Pfad sättigt.
+     */
+    AUGMENTING_WORST_CASE("worstcase");
+
+    private final String name;
+
+    /**
+     * Erstellt eine neue Graphfamilie mit einem gegebenen Namen.
+     * @param name eindeutiger Name der Graphfamilie
+     */
+    GraphFamily(final String name) {
+        this.name = name;
+    }
+
+    /**
+     * Ermittelt eine Graphfamilie anhand ihres eindeutigen Namens.
+     * Existiert keine Graphfamilie mit dem gegebenen Namen, so wird {@code null} zurückgegeben.
+     * @param name Name der Graphfamilie
+     * @return Graphfamilie mit gegebenem Namen
+     */
+    public static GraphFamily fromName(String name) {
+        for (GraphFamily family : values()) {
+            if (family.name.equals(name)) {
+                return family;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public String toString() {
+        return this.name;
+    }
+}
@@ -0,0 +1,328 @@
+package edu.kit.informatik.escaperoutenetwork.generator;
+
+import edu.kit.informatik.escaperoutenetwork.graph.Edge;
+import edu.kit.informatik.escaperoutenetwork.graph.Node;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * Modelliert einen Erzeuger gültiger Fluchtwegenetze einer {@link GraphFamily} mit einer gewünschten Anzahl an
+ * Kanten. Alle Kanten zeigen von einem Knoten mit kleinerem zu einem Knoten mit größerem Index, sodass weder
+ * Schleifen noch gegenläufige Kanten entstehen. Der Knoten mit Index 0 ist stets ein Startknoten und der Knoten
+ * mit dem größten Index stets ein Zielknoten.
+ * Die Erzeugung ist über den Startwert des Zufallsgenerators reproduzierbar.
+ * @author Phil Gengenbach
+ * @version 1.0
+ */
+public final class GraphGenerator {
+
+    /**
+     * Größte Kapazität einer erzeugten Kante.
+     */
+    public static final int MAXIMUM_CAPACITY = 1000;
+
+    private static final int MINIMUM_CAPACITY = 1;
+    private static final int ALPHABET_SIZE = 26;
+    private static final char FIRST_LETTER = 'a';
+    private static final int NEXT_INDEX = 1;
+    private static final int START_INDEX = 0;
+    private static final int MINIMUM_WIDTH = 2;
+    private static final int BUILDING_CONNECTIONS = 2;
+    private static final int SPARSE_DEGREE = 4;
+    private static final int DENSE_PAIR_FACTOR = 4;
+    private static final int GRID_DIRECTIONS = 2;
+    private static final int KEY_SHIFT = 32;
+    private static final int STAIRWELL_COUNT = 2;
+    private static final int DOOR_CAPACITY = 10;
+    private static final int CORRIDOR_CAPACITY = 100;
+    private static final int BUILDING_ROOM_FACTOR = 2;
+    private static final int BUILDING_EDGES_PER_ROOM = 2;
+    private static final int BUILDING_EDGES_PER_FLOOR = 3;
+    private static final int MINIMUM_BUILDING_COUNT = 2;
+    private static final int BUILDINGS_PER_ASSEMBLY_POINT = 8;
+    private static final int PATH_CONNECTIONS = 2;
+
+    private final Random random;
+    private final List<Edge> edges;
+    private final Set<Long> edgeKeys;
+    private final List<Node> nodes;
+
+    /**
+     * Erstellt einen neuen Erzeuger mit einem gegebenen Startwert des Zufallsgenerators.
+     * @param seed Startwert des Zufallsgenerators
+     */
+    public GraphGenerator(long seed) {
+        this.random = new Random(seed);
+        this.edges = new ArrayList<>();
+        this.edgeKeys = new HashSet<>();
+        this.nodes = new ArrayList<>();
+    }
+
+    /**
+     * Erzeugt die Kanten eines Fluchtwegenetzes einer gegebenen Graphfamilie mit ungefähr einer gegebenen
+     * Anzahl an Kanten.
+     * @param family Graphfamilie
+     * @param edgeCount gewünschte Anzahl an Kanten
+     * @return Liste aller erzeugten Kanten
+     */
+    public List<Edge> generate(GraphFamily family, int edgeCount) {
+        edges.clear();
+        edgeKeys.clear();
+        switch (family) {
+            case LAYERED_BUILDING:
+                generateLayeredBuilding(edgeCount);
+                break;
+            case GRID:
+                generateGrid(edgeCount);
+                break;
+            case RANDOM_SPARSE:
+                generateRandom(Math.max(MINIMUM_WIDTH, edgeCount / SPARSE_DEGREE), edgeCount);
+                break;
+            case RANDOM_DENSE:
+                generateRandom(Math.max(MINIMUM_WIDTH, (int) Math.sqrt((double) DENSE_PAIR_FACTOR * edgeCount)),
+                        edgeCount);
+                break;
+            case STAIRWELL_BUILDING:
+                generateStairwellBuilding(edgeCount);
+                break;
+            case CAMPUS:
+                generateCampus(edgeCount);
+                break;
+            case AUGMENTING_WORST_CASE:
+                generateAugmentingWorstCase(edgeCount);
+                break;
+            default:
+                throw new IllegalArgumentException(family.toString());
+        }
+        return new ArrayList<>(edges);
+    }
+
+    /**
+     * Erzeugt ein Gebäude mit einem Eingangsknoten, mehreren Stockwerken gleicher Breite und einem Ausgang.
+     * Jeder Raum ist mit dem darunterliegenden und dem benachbarten Raum des nächsten Stockwerks verbunden.
+     * @param edgeCount gewünschte Anzahl an Kanten
+     */
+    private void generateLayeredBuilding(int edgeCount) {
+        int width = Math.max(MINIMUM_WIDTH, (int) Math.sqrt((double) edgeCount / BUILDING_CONNECTIONS));
+        int floors = Math.max(NEXT_INDEX, edgeCount / (BUILDING_CONNECTIONS * width));
+        int exit = floors * width + NEXT_INDEX;
+        for (int room = START_INDEX; room < width; room++) {
+            addEdge(START_INDEX, room + NEXT_INDEX);
+        }
+        for (int floor = START_INDEX; floor < floors - NEXT_INDEX; floor++) {
+            for (int room = START_INDEX; room < width; room++) {
+                int nextFloor = (floor + NEXT_INDEX) * width + NEXT_INDEX;
+                addEdge(floor * width + room + NEXT_INDEX, nextFloor + room);
+                addEdge(floor * width + room + NEXT_INDEX, nextFloor + (room + NEXT_INDEX) % width);
+            }
+        }
+        for (int room = START_INDEX; room < width; room++) {
+            addEdge((floors - NEXT_INDEX) * width + room + NEXT_INDEX, exit);
+        }
+    }
+
+    /**
+     * Erzeugt ein quadratisches Gitter, in welchem jeder Knoten mit seinem rechten und unteren Nachbarn
+     * verbunden ist.
+     * @param edgeCount gewünschte Anzahl an Kanten
+     */
+    private void generateGrid(int edgeCount) {
+        int side = Math.max(MINIMUM_WIDTH, (int) Math.sqrt((double) edgeCount / GRID_DIRECTIONS) + NEXT_INDEX);
+        for (int row = START_INDEX; row < side; row++) {
+            for (int column = START_INDEX; column < side; column++) {
+                int node = row * side + column;
+                if (column + NEXT_INDEX < side) {
+                    addEdge(node, node + NEXT_INDEX);
+                }
+                if (row + NEXT_INDEX < side) {
+                    addEdge(node, node + side);
+                }
+            }
+        }
+    }
+
+    /**
+     * Erzeugt einen zufälligen Graphen. Eine Kette über alle Knoten stellt sicher, dass der Zielknoten vom
+     * Startknoten aus erreichbar ist, die übrigen Kanten werden zufällig zwischen zwei Knoten gezogen.
+     * @param nodeCount Anzahl an Knoten
+     * @param edgeCount gewünschte Anzahl an Kanten
+     */
+    private void generateRandom(int nodeCount, int edgeCount) {
+        for (int node = START_INDEX; node < nodeCount - NEXT_INDEX; node++) {
+            addEdge(node, node + NEXT_INDEX);
+        }
+        long pairCount = (long) nodeCount * (nodeCount - NEXT_INDEX) / BUILDING_CONNECTIONS;
+        long targetCount = Math.min(edgeCount, pairCount);
+        while (edges.size() < targetCount) {
+            int first = random.nextInt(nodeCount);
+            int second = random.nextInt(nodeCount);
+            if (first != second) {
+                addEdge(Math.min(first, second), Math.max(first, second));
+            }
+        }
+    }
+
+    /**
+     * Erzeugt ein einzelnes Gebäude mit Treppenhäusern, dessen Ausgang der Knoten mit dem größten Index ist.
+     * @param edgeCount gewünschte Anzahl an Kanten
+     */
+    private void generateStairwellBuilding(int edgeCount) {
+        int rooms = getRoomsPerFloor(edgeCount);
+        int floors = getFloorCount(edgeCount, rooms);
+        addBuilding(START_INDEX, floors, rooms, floors * getFloorSize(rooms));
+    }
+
+    /**
+     * Erzeugt ein Gelände aus mehreren gleich großen Gebäuden. Auf alle Gebäude folgt je ein Wegknoten vor dem
+     * Ausgang jedes Gebäudes und anschließend die Sammelplätze. Jeder Wegknoten führt zu zufälligen späteren
+     * Wegknoten oder Sammelplätzen und jeder Sammelplatz ist über mindestens einen Weg erreichbar.
+     * @param edgeCount gewünschte Anzahl an Kanten
+     */
+    private void generateCampus(int edgeCount) {
+        int buildingCount = Math.max(MINIMUM_BUILDING_COUNT, (int) Math.cbrt(edgeCount));
+        int buildingEdges = Math.max(NEXT_INDEX, edgeCount / buildingCount);
+        int rooms = getRoomsPerFloor(buildingEdges);
+        int floors = getFloorCount(buildingEdges, rooms);
+        int buildingSize = floors * getFloorSize(rooms);
+        int pathStart = buildingCount * buildingSize;
+        int assemblyStart = pathStart + buildingCount;
+        int assemblyCount = Math.max(NEXT_INDEX, buildingCount / BUILDINGS_PER_ASSEMBLY_POINT);
+        int end = assemblyStart + assemblyCount;
+
+        for (int building = START_INDEX; building < buildingCount; building++) {
+            addBuilding(building * buildingSize, floors, rooms, pathStart + building);
+        }
+        for (int assembly = START_INDEX; assembly < assemblyCount; assembly++) {
+            addEdge(pathStart + assembly % buildingCount, assemblyStart + assembly, MAXIMUM_CAPACITY);
+        }
+        for (int path = pathStart; path < assemblyStart; path++) {
+            for (int connection = START_INDEX; connection < PATH_CONNECTIONS; connection++) {
+                int target = path + NEXT_INDEX + random.nextInt(end - path - NEXT_INDEX);
+                addEdge(path, target, MAXIMUM_CAPACITY);
+            }
+        }
+    }
+
+    /**
+     * Fügt ein Gebäude hinzu, dessen Stockwerke vom obersten zum untersten Stockwerk fortlaufend indiziert sind.
+     * Jedes Stockwerk besteht aus Räumen, je einem Flurabschnitt vor jedem Raum und zwei Treppenhäusern. Die
+     * Flurabschnitte führen der Reihe nach zum zweiten Treppenhaus, der mittlere Abschnitt zusätzlich zum ersten.
+     * Jedes Treppenhaus führt zum selben Treppenhaus des darunterliegenden Stockwerks und im Erdgeschoss zum
+     * Ausgang. Türen haben dabei geringe, Flure mittlere und Treppenhäuser hohe Kapazitäten.
+     * @param offset Index des ersten Knotens des Gebäudes
+     * @param floors Anzahl an Stockwerken
+     * @param rooms Anzahl an Räumen je Stockwerk
+     * @param exit Index des Ausgangs, welcher größer als alle Indizes des Gebäudes sein muss
+     */
+    private void addBuilding(int offset, int floors, int rooms, int exit) {
+        int floorSize = getFloorSize(rooms);
+        for (int floor = START_INDEX; floor < floors; floor++) {
+            int firstRoom = offset + floor * floorSize;
+            int corridor = firstRoom + rooms;
+            int stairwell = corridor + rooms;
+            for (int room = START_INDEX; room < rooms; room++) {
+                addEdge(firstRoom + room, corridor + room, randomCapacity(DOOR_CAPACITY));
+                if (room + NEXT_INDEX < rooms) {
+                    addEdge(corridor + room, corridor + room + NEXT_INDEX, randomCapacity(CORRIDOR_CAPACITY));
+                }
+            }
+            addEdge(corridor + rooms / STAIRWELL_COUNT, stairwell, randomCapacity(CORRIDOR_CAPACITY));
+            addEdge(corridor + rooms - NEXT_INDEX, stairwell + NEXT_INDEX, randomCapacity(CORRIDOR_CAPACITY));
+            boolean groundFloor = floor + NEXT_INDEX == floors;
+            for (int stair = START_INDEX; stair < STAIRWELL_COUNT; stair++) {
+                addEdge(stairwell + stair, groundFloor ? exit : stairwell + stair + floorSize, MAXIMUM_CAPACITY);
+            }
+        }
+    }
+
+    private static int getRoomsPerFloor(int edgeCount) {
+        return Math.max(MINIMUM_WIDTH, (int) Math.sqrt((double) edgeCount / BUILDING_ROOM_FACTOR));
+    }
+
+    private static int getFloorCount(int edgeCount, int rooms) {
+        return Math.max(NEXT_INDEX, edgeCount / (BUILDING_EDGES_PER_ROOM * rooms + BUILDING_EDGES_PER_FLOOR));
+    }
+
+    private static int getFloorSize(int rooms) {
+        return BUILDING_EDGES_PER_ROOM * rooms + STAIRWELL_COUNT;
+    }
+
+    /**
+     * Erzeugt parallele Pfade vom ersten zum letzten Knoten mit ein bis k Zwischenknoten. Da jeder Pfad eine
+     * eigene Länge hat und beim Augmentieren vollständig gesättigt wird, benötigen Verfahren über kürzeste
+     * augmentierende Pfade je Pfad eine eigene Breitensuche über den gesamten Graphen.
+     * @param edgeCount gewünschte Anzahl an Kanten
+     */
+    private void generateAugmentingWorstCase(int edgeCount) {
+        int pathCount = Math.max(MINIMUM_WIDTH, (int) Math.sqrt((double) BUILDING_CONNECTIONS * edgeCount));
+        int sink = pathCount * (pathCount + NEXT_INDEX) / BUILDING_CONNECTIONS + NEXT_INDEX;
+        int node = NEXT_INDEX;
+        for (int length = NEXT_INDEX; length <= pathCount; length++) {
+            int capacity = randomCapacity(MAXIMUM_CAPACITY);
+            addEdge(START_INDEX, node, capacity);
+            for (int step = NEXT_INDEX; step < length; step++) {
+                addEdge(node, node + NEXT_INDEX, capacity);
+                node++;
+            }
+            addEdge(node, sink, capacity);
+            node++;
+        }
+    }
+
+    private int randomCapacity(int maximumCapacity) {
+        return MINIMUM_CAPACITY + random.nextInt(maximumCapacity);
+    }
+
+    /**
+     * Fügt eine Kante mit zufälliger Kapazität hinzu, sofern sie noch nicht existiert.
+     * @param source Index des Startknotens
+     * @param target Index des Zielknotens
+     */
+    private void addEdge(int source, int target) {
+        addEdge(source, target, randomCapacity(MAXIMUM_CAPACITY));
+    }
+
+    /**
+     * Fügt eine Kante mit einer gegebenen Kapazität hinzu, sofern sie noch nicht existiert.
+     * @param source Index des Startknotens
+     * @param target Index des Zielknotens
+     * @param capacity Kapazität
+     */
+    private void addEdge(int source, int target, int capacity) {
+        if (edgeKeys.add(((long) source << KEY_SHIFT) | target)) {
+            edges.add(new Edge(getNode(source), getNode(target), capacity));
+        }
+    }
+
+    /**
+     * Gibt den Knoten mit einem gegebenen Index zurück. Die Knoten werden dabei nur einmal erzeugt.
+     * @param index Index des Knotens
+     * @return Knoten
+     */
+    private Node getNode(int index) {
+        while (nodes.size() <= index) {
+            nodes.add(new Node(toIdentifier(nodes.size())));
+        }
+        return nodes.get(index);
+    }
+
+    /**
+     * Bildet einen Index eindeutig auf eine Kennung aus Kleinbuchstaben ab, also 0 auf a, 25 auf z, 26 auf aa
+     * und so weiter. Kennungen aus höchstens sechs Buchstaben reichen damit für über 300 Millionen Knoten.
+     * @param index Index des Knotens
+     * @return Kennung des Knotens
+     */
+    public static String toIdentifier(int index) {
+        StringBuilder builder = new StringBuilder();
+        int remaining = index;
+        do {
+            builder.append((char) (FIRST_LETTER + remaining % ALPHABET_SIZE));
+            remaining = remaining / ALPHABET_SIZE - NEXT_INDEX;
+        } while (remaining >= START_INDEX);
+        return builder.reverse().toString();
+    }
+}
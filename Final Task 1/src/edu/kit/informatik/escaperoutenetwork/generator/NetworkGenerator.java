@@ -0,0 +1,212 @@
+package edu.kit.informatik.escaperoutenetwork.generator;
+
+import edu.kit.informatik.Terminal;
+import edu.kit.informatik.escaperoutenetwork.core.EscapeRouteNetwork;
+import edu.kit.informatik.escaperoutenetwork.core.LineChunkWriter;
+import edu.kit.informatik.escaperoutenetwork.exception.ErrorMessages;
+import edu.kit.informatik.escaperoutenetwork.graph.Edge;
+import edu.kit.informatik.escaperoutenetwork.userinterface.AddCommand;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Einstiegspunkt des Erzeugers synthetischer Fluchtwegenetze für Last- und Skalierungstests.
+ * Ein Fluchtwegenetz einer gewählten {@link GraphFamily} wird mit ungefähr der gewünschten Anzahl an Kanten
+ * über einen {@link GraphGenerator} erzeugt und als Skript aus add-Befehlen oder als Kantenliste für den
+ * import-Befehl ausgegeben. Die erzeugten Fluchtwegenetze erfüllen alle Bedingungen des add-Befehls, bei
+ * gleichem Startwert wird stets dasselbe Fluchtwegenetz erzeugt.
+ * Die Ausgabe erfolgt abschnittsweise in die Standardausgabe oder in eine Datei.
+ * @author Phil Gengenbach
+ * @version 1.0
+ */
+public final class NetworkGenerator {
+
+    /**
+     * Option zur Auswahl der Graphfamilie.
+     */
+    public static final String TOPOLOGY_OPTION = "--topology";
+    /**
+     * Option für die gewünschte Anzahl an Kanten.
+     */
+    public static final String EDGES_OPTION = "--edges";
+    /**
+     * Option für den Startwert des Zufallsgenerators.
+     */
+    public static final String SEED_OPTION = "--seed";
+    /**
+     * Option zur Auswahl des Ausgabeformats.
+     */
+    public static final String FORMAT_OPTION = "--format";
+    /**
+     * Option für die Kennung des Fluchtwegenetzes in einem Skript.
+     */
+    public static final String NETWORK_OPTION = "--network";
+    /**
+     * Option für die Ausgabedatei. Ohne diese Option wird in die Standardausgabe geschrieben.
+     */
+    public static final String OUTPUT_OPTION = "--output";
+
+    private static final String DEFAULT_NETWORK = "GEN";
+    private static final int DEFAULT_EDGES = 1000;
+    private static final long DEFAULT_SEED = 42;
+    private static final String SPACE_SEPERATOR = " ";
+    private static final String SECTION_SEPERATOR = ";";
+    private static final int INITIAL_SECTIONS = 2;
+    private static final int START_INDEX = 0;
+    private static final int OPTION_VALUE_OFFSET = 1;
+    private static final int OPTION_STEP = 2;
+
+    private GraphFamily topology = GraphFamily.STAIRWELL_BUILDING;
+    private int edgeCount = DEFAULT_EDGES;
+    private long seed = DEFAULT_SEED;
+    private OutputFormat format = OutputFormat.SCRIPT;
+    private String networkIdentifier = DEFAULT_NETWORK;
+    private Path output;
+
+    private NetworkGenerator() {
+    }
+
+    /**
+     * Erzeugt ein Fluchtwegenetz nach den gegebenen Kommandozeilenparametern und gibt es aus.
+     * Ohne Parameter wird ein Gebäude mit Treppenhäusern und etwa 1000 Kanten als Skript ausgegeben.
+     * @param args Kommandozeilenparameter aus Optionen und deren Werten
+     */
+    public static void main(String[] args) {
+        NetworkGenerator generator = new NetworkGenerator();
+        try {
+            generator.parseOptions(args);
+        } catch (IllegalArgumentException exception) {
+            Terminal.printError(exception.getMessage());
+            return;
+        }
+        List<Edge> edges = new GraphGenerator(generator.seed).generate(generator.topology, generator.edgeCount);
+
+        if (generator.output == null) {
+            Terminal.setBatchedOutput(true);
+            generator.write(edges, Terminal::print);
+            Terminal.printLine();
+            Terminal.flush();
+            return;
+        }
+        try (BufferedWriter writer = Files.newBufferedWriter(generator.output)) {
+            generator.write(edges, chunk -> append(writer, chunk));
+            writer.write(System.lineSeparator());
+        } catch (IOException | UncheckedIOException exception) {
+            Terminal.printError(String.format(ErrorMessages.FILE_NOT_WRITABLE.toString(), generator.output));
+        }
+    }
+
+    private void parseOptions(String[] args) {
+        for (int i = START_INDEX; i < args.length; i += OPTION_STEP) {
+            if (i + OPTION_VALUE_OFFSET >= args.length) {
+                throw invalidOption(args[i]);
+            }
+            String value = args[i + OPTION_VALUE_OFFSET];
+            switch (args[i]) {
+                case TOPOLOGY_OPTION:
+                    this.topology = GraphFamily.fromName(value);
+                    if (topology == null) {
+                        throw invalidOption(value);
+                    }
+                    break;
+                case EDGES_OPTION:
+                    this.edgeCount = parseNumber(value);
+                    break;
+                case SEED_OPTION:
+                    try {
+                        this.seed = Long.parseLong(value);
+                    } catch (NumberFormatException exception) {
+                        throw invalidOption(value);
+                    }
+                    break;
+                case FORMAT_OPTION:
+                    this.format = OutputFormat.fromName(value);
+                    if (format == null) {
+                        throw invalidOption(value);
+                    }
+                    break;
+                case NETWORK_OPTION:
+                    if (!EscapeRouteNetwork.isValidIdentifier(value)) {
+                        throw invalidOption(value);
+                    }
+                    this.networkIdentifier = value;
+                    break;
+                case OUTPUT_OPTION:
+                    try {
+                        this.output = Path.of(value);
+                    } catch (IllegalArgumentException exception) {
+                        throw invalidOption(value);
+                    }
+                    break;
+                default:
+                    throw invalidOption(args[i]);
+            }
+        }
+    }
+
+    /**
+     * Schreibt die Kanten im gewählten Format abschnittsweise in eine gegebene Ausgabe.
+     * Die Ausgabe endet dabei ohne abschließenden Zeilenseparator.
+     * @param edges Kanten des Fluchtwegenetzes
+     * @param output Ausgabe, welche die einzelnen Abschnitte entgegennimmt
+     */
+    private void write(List<Edge> edges, Consumer<CharSequence> output) {
+        LineChunkWriter writer = new LineChunkWriter(output);
+        int firstSingleSection = START_INDEX;
+        if (format == OutputFormat.SCRIPT) {
+            //Ein neues Fluchtwegenetz muss mit mindestens zwei Abschnitten angelegt werden
+            firstSingleSection = Math.min(INITIAL_SECTIONS, edges.size());
+            StringBuilder line = appendAddCommand(writer.nextLine());
+            for (int i = START_INDEX; i < firstSingleSection; i++) {
+                if (i > START_INDEX) {
+                    line.append(SECTION_SEPERATOR);
+                }
+                edges.get(i).appendTo(line);
+            }
+        }
+        for (int i = firstSingleSection; i < edges.size(); i++) {
+            StringBuilder line = writer.nextLine();
+            if (format == OutputFormat.SCRIPT) {
+                appendAddCommand(line);
+            }
+            edges.get(i).appendTo(line);
+        }
+        writer.flush();
+    }
+
+    private StringBuilder appendAddCommand(StringBuilder line) {
+        return line.append(AddCommand.ADD_COMMAND_NAME).append(SPACE_SEPERATOR).append(networkIdentifier)
+                .append(SPACE_SEPERATOR);
+    }
+
+    private static void append(BufferedWriter writer, CharSequence chunk) {
+        try {
+            writer.append(chunk);
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    private static int parseNumber(String value) {
+        try {
+            int number = Integer.parseInt(value);
+            if (number < START_INDEX) {
+                throw invalidOption(value);
+            }
+            return number;
+        } catch (NumberFormatException exception) {
+            throw invalidOption(value);
+        }
+    }
+
+    private static IllegalArgumentException invalidOption(String option) {
+        return new IllegalArgumentException(String.format(ErrorMessages.INVALID_GENERATOR_OPTION.toString(),
+                option));
+    }
+}
@@ -0,0 +1,50 @@
+package edu.kit.informatik.escaperoutenetwork.generator;
+
+/**
+ * Alle Formate, in denen ein erzeugtes Fluchtwegenetz ausgegeben werden kann.
+ * Jedes Format ist über einen eindeutigen Namen auswählbar.
+ * @author Phil Gengenbach
+ * @version 1.0
+ */
+public enum OutputFormat {
+
+    /**
+     * Skript aus add-Befehlen, welches das Fluchtwegenetz mit den ersten beiden Fluchtwegeabschnitten anlegt und
+     * jeden weiteren Abschnitt über einen eigenen add-Befehl hinzufügt.
+     */
+    SCRIPT("script"),
+    /**
+     * Kantenliste für den import-Befehl mit einem Fluchtwegeabschnitt je Zeile.
+     */
+    IMPORT("import");
+
+    private final String name;
+
+    /**
+     * Erstellt ein neues Format mit einem gegebenen Namen.
+     * @param name eindeutiger Name des Formats
+     */
+    OutputFormat(final String name) {
+        this.name = name;
+    }
+
+    /**
+     * Ermittelt ein Format anhand seines eindeutigen Namens.
+     * Existiert kein Format mit dem gegebenen Namen, so wird {@code null} zurückgegeben.
+     * @param name Name des Formats
+     * @return Format mit gegebenem Namen
+     */
+    public static OutputFormat fromName(String name) {
+        for (OutputFormat format : values()) {
+            if (format.name.equals(name)) {
+                return format;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public String toString() {
+        return this.name;
+    }
+}
@@ -1,26 +1,21 @@
 package edu.kit.informatik.escaperoutenetwork.graph;
 
-import java.util.Objects;
-
 /**
  * Modelliert eine Kante eines gerichteten Graphen.
  * Jede Kante zeigt also von einem Startknoten auf einen Zielknoten.
- * Jede Kante verfügt über eine Kapazität, einen Durchflusswert und hat außerdem eine Referenz auf eine Rückkante.
+ * Jede Kante verfügt über eine Kapazität. Der Fluss entlang der Kante wird nicht in der Kante selbst, sondern
+ * während einer Berechnung im {@link FlowNetwork} gehalten, sodass Kanten während einer Berechnung unverändert
+ * bleiben.
  * @author Phil Gengenbach
  * @version 1.0
  */
 public final class Edge {
 
-    /**
-     * Ungültige neutrale Kapazität
-     */
-    public static final int ZERO_CAPACITY = 0;
+    private static final int HASH_MULTIPLIER = 31;
 
     private final Node source;
     private final Node target;
-    private long capacity;
-    private Edge residualEdge;
-    private long flow;
+    private final long capacity;
 
     /**
      * Erstellt eine neue Instanz einer Kante eines gerichteten Graphen.
@@ -50,38 +45,6 @@ public final class Edge {
         return target;
     }
 
-    /**
-     * Setzt die Rezidualkante der Kante zu einer gegebenen Kante.
-     * @param residualEdge Rezidualkante
-     */
-    public void setResidualEdge(Edge residualEdge) {
-        this.residualEdge = residualEdge;
-    }
-
-    /**
-     * Gibt die Rezidualkante der Kante zurück.
-     * @return Rezidualkante
-     */
-    public Edge getResidualEdge() {
-        return this.residualEdge;
-    }
-
-    /**
-     * Setzt die Flussrate des Fluchtwegeabschnittes auf eine gegebene Anzahl an Personen pro Minute.
-     * @param flow Flussrate - Anzahl an Personen pro Minute
-     */
-    public void setFlow(long flow) {
-        this.flow = flow;
-    }
-
-    /**
-     * Setzt die Kapazität der Kante zu einer gegebenen Ganzzahl
-     * @param capacity neue Kapazität
-     */
-    public void setCapacity(long capacity) {
-        this.capacity = capacity;
-    }
-
     /**
      * Gibt die Kapazität des Fluchtwegeabschnitts zurück.
      * @return Kapazität des Fluchtwege
@@ -90,40 +53,6 @@ public final class Edge {
         return capacity;
     }
 
-    /**
-     * Gibt die Flussrate des Fluchtwegeabschnittes zurück.
-     * @return Flussrate des Fluchtwegeabschnittes
-     */
-    public long getFlow() {
-        return flow;
-    }
-
-    /**
-     * Überprüft ob der Fluchtwegeabschnitt noch Restkapazitäten hat.
-     * @return hat Fluchtwegeabschnitt noch Restkapazitäten
-     */
-    public boolean isRemaining() {
-        return getRemainingCapacity() > ZERO_CAPACITY;
-    }
-
-    /**
-     * Ermittelt die Restkapazität des Fluchtwegeabschnittes.
-     * Diese wird berechnet über die Differenz von Kapazität und Flussrate.
-     * @return Restkapazität des Fluchtwegeabschnittes
-     */
-    public long getRemainingCapacity() {
-        return capacity - flow;
-    }
-
-    /**
-     * Erhöht den Fluss der Kante und verringert den Fluss der Rückkante um einen gegebenen Wert.
-     * @param throttleValue Wert, um den der Fluss erhöht und verringert werden soll
-     */
-    public void augment(long throttleValue) {
-        setFlow(getFlow() + throttleValue);
-        residualEdge.setFlow(residualEdge.getFlow() - throttleValue);
-    }
-
     /**
      * Erstellt eine neue Kante mit vertauschtem Start- und Zielknoten und gibt sie zurück.
      * Die Kapazität der neuen Kante ist dabei mit der aktuellen identisch.
@@ -140,7 +69,20 @@ public final class Edge {
      */
     @Override
     public String toString() {
-        return source.toString() + getCapacity() + target.toString();
+        StringBuilder builder = new StringBuilder();
+        appendTo(builder);
+        return builder.toString();
+    }
+
+    /**
+     * Hängt die textuelle Repräsentation der Kante wie in {@link #toString()} an einen gegebenen
+     * StringBuilder an, ohne Zwischenzeichenketten zu erzeugen.
+     * @param builder StringBuilder, an den die Kante angehängt wird
+     */
+    public void appendTo(StringBuilder builder) {
+        source.appendTo(builder);
+        builder.append(capacity);
+        target.appendTo(builder);
     }
 
     /**
@@ -167,17 +109,6 @@ public final class Edge {
 
     @Override
     public int hashCode() {
-        return Objects.hash(source, target);
-    }
-
-    /**
-     * Gibt eine vollständige Kopie der Kante zurück.
-     * @return Kopie der Kante
-     */
-    public Edge copy() {
-        Edge copyEdge = new Edge(source, target, capacity);
-        copyEdge.setResidualEdge(getResidualEdge());
-        copyEdge.setFlow(getFlow());
-        return copyEdge;
+        return HASH_MULTIPLIER * source.hashCode() + target.hashCode();
     }
 }
@@ -0,0 +1,193 @@
+package edu.kit.informatik.escaperoutenetwork.graph;
+
+import java.util.Arrays;
+
+/**
+ * Modelliert die Kantenmenge eines gerichteten Graphen in parallelen primitiven Feldern.
+ * Jede Kante erhält beim Hinzufügen einen fortlaufenden Index ab {@code 0}, unter dem Start- und Zielknoten als
+ * Index der {@link NodeSymbolTable} des Graphen sowie die Kapazität abgelegt werden. Kanten werden nie entfernt,
+ * vergebene Indizes ändern sich also nicht mehr.
+ * Über den Schlüssel aus {@link NodePair#toKey(Node, Node)} wird eine Kante in einer {@link LongIndexMap} in
+ * konstanter Zeit gefunden. Da die Schlüssel nach Start- und anschließend nach Zielknoten
+ * lexikographisch geordnet sind, wird zusätzlich ein nach Schlüsseln sortierter Index aller Kanten mitgeführt.
+ * Neu hinzugefügte Kanten werden erst beim nächsten Zugriff auf die sortierte Reihenfolge untereinander sortiert
+ * und anschließend in einem Durchlauf in den bestehenden Index eingefügt. Der Index wird so weder beim Einlesen
+ * vieler Kanten noch beim abwechselnden Hinzufügen und Ausgeben vollständig neu sortiert.
+ * Es werden dabei keine Objekte je Kante erzeugt, {@link Edge} dient lediglich als Sicht für die Ein- und Ausgabe.
+ * @author Phil Gengenbach
+ * @version 1.0
+ */
+public final class EdgeStore {
+
+    /**
+     * Index, der eine nicht enthaltene Kante markiert.
+     */
+    public static final int NO_EDGE = LongIndexMap.NO_INDEX;
+
+    private static final int INITIAL_CAPACITY = 16;
+    private static final int GROWTH_FACTOR = 2;
+    private static final int NEXT_INDEX = 1;
+    private static final int START_INDEX = 0;
+
+    private int[] sources;
+    private int[] targets;
+    private long[] capacities;
+    private long[] edgeKeys;
+    private int size;
+
+    private final LongIndexMap edgeIndices;
+
+    private int[] sortedEdges;
+    private int sortedCount;
+
+    /**
+     * Erstellt eine neue, leere Kantenmenge.
+     */
+    public EdgeStore() {
+        this.sources = new int[INITIAL_CAPACITY];
+        this.targets = new int[INITIAL_CAPACITY];
+        this.capacities = new long[INITIAL_CAPACITY];
+        this.edgeKeys = new long[INITIAL_CAPACITY];
+        this.edgeIndices = new LongIndexMap();
+        this.sortedEdges = new int[INITIAL_CAPACITY];
+    }
+
+    /**
+     * Erstellt eine vollständige Kopie einer gegebenen Kantenmenge.
+     * @param edgeStore Kantenmenge, welche kopiert wird
+     */
+    private EdgeStore(EdgeStore edgeStore) {
+        this.sources = Arrays.copyOf(edgeStore.sources, edgeStore.size);
+        this.targets = Arrays.copyOf(edgeStore.targets, edgeStore.size);
+        this.capacities = Arrays.copyOf(edgeStore.capacities, edgeStore.size);
+        this.edgeKeys = Arrays.copyOf(edgeStore.edgeKeys, edgeStore.size);
+        this.size = edgeStore.size;
+        this.edgeIndices = edgeStore.edgeIndices.copy();
+        this.sortedEdges = Arrays.copyOf(edgeStore.sortedEdges, edgeStore.sortedCount);
+        this.sortedCount = edgeStore.sortedCount;
+    }
+
+    /**
+     * Gibt den Index der Kante mit einem gegebenen Schlüssel zurück.
+     * @param key Schlüssel aus Start- und Zielknoten nach {@link NodePair#toKey(Node, Node)}
+     * @return Index der Kante oder {@link #NO_EDGE}, falls keine solche Kante enthalten ist
+     */
+    public int find(long key) {
+        return edgeIndices.get(key);
+    }
+
+    /**
+     * Fügt eine neue Kante hinzu. Die Kante darf noch nicht enthalten sein.
+     * @param key Schlüssel aus Start- und Zielknoten nach {@link NodePair#toKey(Node, Node)}
+     * @param source Index des Startknotens
+     * @param target Index des Zielknotens
+     * @param capacity Kapazität
+     * @return Index der neuen Kante
+     */
+    public int add(long key, int source, int target, long capacity) {
+        int edge = size++;
+        if (edge == sources.length) {
+            int newLength = Math.max(INITIAL_CAPACITY, sources.length * GROWTH_FACTOR);
+            sources = Arrays.copyOf(sources, newLength);
+            targets = Arrays.copyOf(targets, newLength);
+            capacities = Arrays.copyOf(capacities, newLength);
+            edgeKeys = Arrays.copyOf(edgeKeys, newLength);
+        }
+        sources[edge] = source;
+        targets[edge] = target;
+        capacities[edge] = capacity;
+        edgeKeys[edge] = key;
+        edgeIndices.put(key, edge);
+        return edge;
+    }
+
+    /**
+     * Gibt die Anzahl an Kanten zurück.
+     * @return Anzahl an Kanten
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Gibt den Startknoten einer Kante zurück.
+     * @param edge Index der Kante
+     * @return Index des Startknotens
+     */
+    public int getSource(int edge) {
+        return sources[edge];
+    }
+
+    /**
+     * Gibt den Zielknoten einer Kante zurück.
+     * @param edge Index der Kante
+     * @return Index des Zielknotens
+     */
+    public int getTarget(int edge) {
+        return targets[edge];
+    }
+
+    /**
+     * Gibt die Kapazität einer Kante zurück.
+     * @param edge Index der Kante
+     * @return Kapazität
+     */
+    public long getCapacity(int edge) {
+        return capacities[edge];
+    }
+
+    /**
+     * Setzt die Kapazität einer Kante. Die Reihenfolge der Kanten bleibt dabei unverändert.
+     * @param edge Index der Kante
+     * @param capacity neue Kapazität
+     */
+    public void setCapacity(int edge, long capacity) {
+        capacities[edge] = capacity;
+    }
+
+    /**
+     * Bringt den sortierten Index auf den aktuellen Stand. Die seit dem letzten Aufruf hinzugefügten Kanten
+     * werden dazu nach ihren Schlüsseln sortiert und von hinten in den bestehenden Index eingefügt, wobei nur
+     * die Einträge verschoben werden, die hinter einer neuen Kante liegen.
+     */
+    public void sortEdges() {
+        int pendingCount = size - sortedCount;
+        if (pendingCount == START_INDEX) {
+            return;
+        }
+        long[] pendingKeys = Arrays.copyOfRange(edgeKeys, sortedCount, size);
+        Arrays.sort(pendingKeys);
+        if (sortedEdges.length < size) {
+            sortedEdges = Arrays.copyOf(sortedEdges, Math.max(size, sortedEdges.length * GROWTH_FACTOR));
+        }
+        int sortedPosition = sortedCount - NEXT_INDEX;
+        int pendingPosition = pendingCount - NEXT_INDEX;
+        for (int position = size - NEXT_INDEX; pendingPosition >= START_INDEX; position--) {
+            if (sortedPosition >= START_INDEX && edgeKeys[sortedEdges[sortedPosition]] > pendingKeys[pendingPosition]) {
+                sortedEdges[position] = sortedEdges[sortedPosition--];
+            } else {
+                sortedEdges[position] = find(pendingKeys[pendingPosition--]);
+            }
+        }
+        this.sortedCount = size;
+    }
+
+    /**
+     * Gibt den Index der Kante an einer gegebenen Position der lexikographisch nach Start- und anschließend nach
+     * Zielknoten sortierten Reihenfolge zurück. Der sortierte Index muss dazu über {@link #sortEdges()} auf dem
+     * aktuellen Stand sein.
+     * @param position Position in der sortierten Reihenfolge
+     * @return Index der Kante
+     */
+    public int getSortedEdge(int position) {
+        return sortedEdges[position];
+    }
+
+    /**
+     * Gibt eine vollständige Kopie der Kantenmenge zurück.
+     * @return Kopie der Kantenmenge
+     */
+    public EdgeStore copy() {
+        return new EdgeStore(this);
+    }
+}
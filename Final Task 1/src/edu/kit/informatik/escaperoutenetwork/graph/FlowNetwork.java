@@ -0,0 +1,303 @@
+package edu.kit.informatik.escaperoutenetwork.graph;
+
+import java.util.Arrays;
+
+/**
+ * Modelliert die übersetzte Form eines gerichteten Graphen zur Berechnung von Flüssen.
+ * Die Knoten werden dabei über die {@link NodeSymbolTable} des Graphen auf fortlaufende Ganzzahlen abgebildet,
+ * welche sich auch bei späteren Veränderungen des Graphen nicht ändern, und die Kanten im
+ * Compressed-Sparse-Row-Format abgelegt: Die Kanten eines Knotens {@code v} liegen in den Feldern an den
+ * Indizes {@code getFirstArc(v)} bis ausschließlich {@code getEndArc(v)}.
+ * Die Kanten werden dabei direkt aus dem {@link EdgeStore} des Graphen übernommen, ohne {@link Edge}-Objekte zu
+ * erzeugen. Jede Kante des Graphen erhält eine gepaarte Rückkante mit Kapazität {@code 0}, deren Index über
+ * {@link #getReverseArc(int)} erreichbar ist.
+ * Die Struktur des Netzwerks ist unveränderlich, lediglich der Fluss entlang der Kanten kann verändert werden.
+ * Über {@link #copyWithEmptyFlow()} können daher beliebig viele Netzwerke mit eigenem Fluss erzeugt werden,
+ * welche sich die Struktur teilen und unabhängig voneinander, auch parallel, verwendet werden können.
+ * @author Phil Gengenbach
+ * @version 1.0
+ */
+public final class FlowNetwork {
+
+    /**
+     * Index, der eine nicht vorhandene Kante markiert.
+     */
+    public static final int NO_ARC = -1;
+
+    private static final int START_INDEX = 0;
+    private static final int NEXT_INDEX = 1;
+    private static final long EMPTY_CAPACITY = 0;
+    private static final long INITIAL_FLOW = 0;
+
+    private final NodeSymbolTable symbolTable;
+    private final int[] offsets;
+    private final int[] targets;
+    private final long[] capacities;
+    private final int[] reverseArcs;
+    private final long[] flows;
+
+    /**
+     * Übersetzt einen gegebenen gerichteten Graphen in ein Flussnetzwerk mit leerem Fluss.
+     * @param graph gerichteter Graph
+     */
+    public FlowNetwork(Graph graph) {
+        this.symbolTable = graph.getSymbolTable();
+        EdgeStore edges = graph.getEdgeStore();
+        int nodeCount = symbolTable.size();
+
+        this.offsets = new int[nodeCount + NEXT_INDEX];
+        for (int edge = START_INDEX; edge < edges.size(); edge++) {
+            offsets[edges.getSource(edge) + NEXT_INDEX]++;
+            offsets[edges.getTarget(edge) + NEXT_INDEX]++;
+        }
+        for (int node = START_INDEX; node < nodeCount; node++) {
+            offsets[node + NEXT_INDEX] += offsets[node];
+        }
+
+        int arcCount = offsets[nodeCount];
+        this.targets = new int[arcCount];
+        this.capacities = new long[arcCount];
+        this.reverseArcs = new int[arcCount];
+        this.flows = new long[arcCount];
+
+        int[] insertPositions = Arrays.copyOf(offsets, nodeCount);
+        for (int edge = START_INDEX; edge < edges.size(); edge++) {
+            int edgeSource = edges.getSource(edge);
+            int edgeTarget = edges.getTarget(edge);
+            int arc = insertPositions[edgeSource]++;
+            int reverseArc = insertPositions[edgeTarget]++;
+
+            targets[arc] = edgeTarget;
+            capacities[arc] = edges.getCapacity(edge);
+            reverseArcs[arc] = reverseArc;
+
+            targets[reverseArc] = edgeSource;
+            capacities[reverseArc] = EMPTY_CAPACITY;
+            reverseArcs[reverseArc] = arc;
+        }
+    }
+
+    /**
+     * Erstellt ein Flussnetzwerk mit leerem Fluss, welches sich die Struktur mit einem gegebenen Netzwerk teilt.
+     * @param network Flussnetzwerk, dessen Struktur übernommen wird
+     */
+    private FlowNetwork(FlowNetwork network) {
+        this.symbolTable = network.symbolTable;
+        this.offsets = network.offsets;
+        this.targets = network.targets;
+        this.capacities = network.capacities;
+        this.reverseArcs = network.reverseArcs;
+        this.flows = new long[network.flows.length];
+    }
+
+    /**
+     * Erstellt ein Flussnetzwerk mit derselben Struktur und einem eigenen, leeren Fluss.
+     * Die Struktur wird dabei nicht kopiert, sondern geteilt.
+     * @return Flussnetzwerk mit eigenem Fluss
+     */
+    public FlowNetwork copyWithEmptyFlow() {
+        return new FlowNetwork(this);
+    }
+
+    /**
+     * Gibt den Index eines Knotens im Flussnetzwerk zurück.
+     * @param node Knoten
+     * @return Index des Knotens
+     */
+    public int getNodeId(Node node) {
+        return symbolTable.getId(node);
+    }
+
+    /**
+     * Gibt den Knoten mit einem gegebenen Index im Flussnetzwerk zurück.
+     * @param nodeId Index des Knotens
+     * @return Knoten
+     */
+    public Node getNode(int nodeId) {
+        return symbolTable.getNode(nodeId);
+    }
+
+    /**
+     * Gibt die Anzahl an Knoten im Flussnetzwerk zurück.
+     * @return Anzahl an Knoten
+     */
+    public int getNodeCount() {
+        return offsets.length - NEXT_INDEX;
+    }
+
+    /**
+     * Gibt die Anzahl an Kanten einschließlich aller Rückkanten im Flussnetzwerk zurück.
+     * @return Anzahl an Kanten
+     */
+    public int getArcCount() {
+        return targets.length;
+    }
+
+    /**
+     * Gibt den Index der ersten vom gegebenen Knoten ausgehenden Kante zurück.
+     * @param node Index des Knotens
+     * @return Index der ersten ausgehenden Kante
+     */
+    public int getFirstArc(int node) {
+        return offsets[node];
+    }
+
+    /**
+     * Gibt den Index hinter der letzten vom gegebenen Knoten ausgehenden Kante zurück.
+     * @param node Index des Knotens
+     * @return Index hinter der letzten ausgehenden Kante
+     */
+    public int getEndArc(int node) {
+        return offsets[node + NEXT_INDEX];
+    }
+
+    /**
+     * Gibt den Zielknoten einer Kante zurück.
+     * @param arc Kante
+     * @return Index des Zielknotens
+     */
+    public int getTarget(int arc) {
+        return targets[arc];
+    }
+
+    /**
+     * Gibt den Startknoten einer Kante zurück, welcher dem Zielknoten der Rückkante entspricht.
+     * @param arc Kante
+     * @return Index des Startknotens
+     */
+    public int getSource(int arc) {
+        return targets[reverseArcs[arc]];
+    }
+
+    /**
+     * Gibt die gepaarte Rückkante einer Kante zurück.
+     * @param arc Kante
+     * @return Rückkante
+     */
+    public int getReverseArc(int arc) {
+        return reverseArcs[arc];
+    }
+
+    /**
+     * Gibt die Kapazität einer Kante zurück. Rückkanten haben die Kapazität {@code 0}.
+     * @param arc Kante
+     * @return Kapazität
+     */
+    public long getCapacity(int arc) {
+        return capacities[arc];
+    }
+
+    /**
+     * Gibt den Fluss entlang einer Kante zurück. Der Fluss einer Rückkante entspricht dem negierten
+     * Fluss der dazugehörigen Kante.
+     * @param arc Kante
+     * @return Fluss entlang der Kante
+     */
+    public long getFlow(int arc) {
+        return flows[arc];
+    }
+
+    /**
+     * Ermittelt die Restkapazität einer Kante über die Differenz von Kapazität und Fluss.
+     * @param arc Kante
+     * @return Restkapazität
+     */
+    public long getRemainingCapacity(int arc) {
+        return capacities[arc] - flows[arc];
+    }
+
+    /**
+     * Erhöht den Fluss entlang einer Kante um einen gegebenen Wert und verringert ihn entlang der Rückkante.
+     * @param arc Kante
+     * @param value Wert, um den der Fluss erhöht werden soll
+     */
+    public void augment(int arc, long value) {
+        flows[arc] += value;
+        flows[reverseArcs[arc]] -= value;
+    }
+
+    /**
+     * Bestimmt die Summe aller Flüsse, welche in einen gegebenen Knoten hineinfließen, abzüglich aller
+     * Flüsse, die aus diesem Knoten herausfließen.
+     * @param node Index des Knotens
+     * @return Nettozufluss des Knotens
+     */
+    public long getNetInflow(int node) {
+        long netInflow = INITIAL_FLOW;
+        for (int arc = offsets[node]; arc < offsets[node + NEXT_INDEX]; arc++) {
+            netInflow -= flows[arc];
+        }
+        return netInflow;
+    }
+
+    /**
+     * Setzt den Fluss entlang aller Kanten auf {@code 0} zurück.
+     */
+    public void resetFlow() {
+        Arrays.fill(flows, INITIAL_FLOW);
+    }
+
+    /**
+     * Gibt eine Kopie des aktuellen Flusses entlang aller Kanten zurück.
+     * @return Fluss entlang aller Kanten, indiziert nach Kanten
+     */
+    public long[] getFlows() {
+        return flows.clone();
+    }
+
+    /**
+     * Setzt den Fluss entlang aller Kanten auf einen zuvor über {@link #getFlows()} gesicherten Fluss.
+     * @param savedFlows gesicherter Fluss entlang aller Kanten
+     */
+    public void setFlows(long[] savedFlows) {
+        System.arraycopy(savedFlows, START_INDEX, flows, START_INDEX, flows.length);
+    }
+
+    /**
+     * Ermittelt die Kante von einem gegebenen Start- zu einem gegebenen Zielknoten, die einer Kante des
+     * ursprünglichen Graphen entspricht.
+     * @param source Index des Startknotens
+     * @param target Index des Zielknotens
+     * @return Kante vom Start- zum Zielknoten oder {@link #NO_ARC}, falls keine solche Kante existiert
+     */
+    public int findArc(int source, int target) {
+        for (int arc = offsets[source]; arc < offsets[source + NEXT_INDEX]; arc++) {
+            if (targets[arc] == target && capacities[arc] > EMPTY_CAPACITY) {
+                return arc;
+            }
+        }
+        return NO_ARC;
+    }
+
+    /**
+     * Überträgt einen Fluss eines früher übersetzten Flussnetzwerks desselben Graphen auf dieses Netzwerk.
+     * Da dem Graphen seitdem lediglich Kanten hinzugefügt oder Kapazitäten verändert worden sein können,
+     * besitzt jede Kante des früheren Netzwerks eine Entsprechung in diesem Netzwerk.
+     * Überschreitet der Fluss entlang einer Kante deren neue Kapazität, so ist der Fluss nicht mehr gültig
+     * und es wird {@code null} zurückgegeben.
+     * @param previousNetwork früher übersetztes Flussnetzwerk
+     * @param previousFlows Fluss im früheren Netzwerk, indiziert nach dessen Kanten
+     * @return Fluss in diesem Netzwerk, indiziert nach dessen Kanten, oder {@code null}
+     */
+    public long[] translateFlows(FlowNetwork previousNetwork, long[] previousFlows) {
+        long[] translatedFlows = new long[flows.length];
+        for (int previousSource = START_INDEX; previousSource < previousNetwork.getNodeCount(); previousSource++) {
+            int source = getNodeId(previousNetwork.getNode(previousSource));
+            for (int previousArc = previousNetwork.getFirstArc(previousSource);
+                 previousArc < previousNetwork.getEndArc(previousSource); previousArc++) {
+                if (previousNetwork.getCapacity(previousArc) == EMPTY_CAPACITY
+                        || previousFlows[previousArc] == INITIAL_FLOW) {
+                    continue;
+                }
+                int target = getNodeId(previousNetwork.getNode(previousNetwork.getTarget(previousArc)));
+                int arc = findArc(source, target);
+                if (arc == NO_ARC || previousFlows[previousArc] > capacities[arc]) {
+                    return null;
+                }
+                translatedFlows[arc] = previousFlows[previousArc];
+                translatedFlows[reverseArcs[arc]] = -previousFlows[previousArc];
+            }
+        }
+        return translatedFlows;
+    }
+}
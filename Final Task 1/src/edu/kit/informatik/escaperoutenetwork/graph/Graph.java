@@ -2,56 +2,115 @@ package edu.kit.informatik.escaperoutenetwork.graph;
 
 import edu.kit.informatik.escaperoutenetwork.compare.EscapeRouteSectionComparator;
 
-import java.util.ArrayList;
+import java.util.AbstractList;
+import java.util.Arrays;
 import java.util.Collection;
-import java.util.HashMap;
 import java.util.HashSet;
-import java.util.List;
-import java.util.Map;
 import java.util.Set;
 
 /**
  * Modelliert einen gerichteten Graphen im Fluchtwegenetzwerk.
+ * Jeder Knoten erhält über eine {@link NodeSymbolTable} einen fortlaufenden Index, über den alle knotenbezogenen
+ * Daten in Feldern abgelegt werden.
+ * Für jeden Knoten werden Eingangs- und Ausgangsgrad sowie die Anzahl an Knoten mit Eingangsgrad 0 und
+ * Ausgangsgrad 0 beim Hinzufügen von Kanten fortlaufend mitgeführt, sodass sich zulässige Start- und Zielknoten
+ * in konstanter Zeit bestimmen lassen.
+ * Die Kanten werden nicht als einzelne Objekte, sondern in einem {@link EdgeStore} aus parallelen primitiven
+ * Feldern abgelegt. {@link Edge}-Objekte werden nur noch als Sicht erzeugt, wenn eine Kante über die
+ * Schnittstelle des Graphen herausgegeben wird.
  * @author Phil Gengenbach
  * @version 1.0
  */
 public final class Graph implements Comparable<Graph> {
 
     private static final int MINIMUM_INDEX = 0;
-    private static final int MINIMUM_SIZE = 1;
+    private static final int ZERO_DEGREE = 0;
+    private static final int DEGREE_STEP = 1;
+    private static final int INITIAL_NODE_CAPACITY = 16;
+    private static final int GROWTH_FACTOR = 2;
 
     private final String uniqueIdentifier;
-    private final Set<Edge> edges;
-    private final Set<Node> nodes;
-    private final Map<Node, List<Node>> adjacencyMap;
-
+    private final EdgeStore edgeStore;
+    private final NodeSymbolTable symbolTable;
+    private int[] inDegrees;
+    private int[] outDegrees;
+    private int zeroInDegreeCount;
+    private int zeroOutDegreeCount;
 
     /**
      * Erstellt eine neue Instanz eines gerichteten Graphen mit einer eindutigen Kennung
      * und einer gegebenen Kanten- sowie Knotenmenge.
-     * Dabei wird eine Adjazenzmap initialisert, welche jedem Knoten, eine Liste aller
-     * Knoten auf den der jeweilige Knoten zeigt zuordnet.
+     * Die gegebenen Kanten werden dabei nicht übernommen, sondern lediglich deren Knoten und Kapazitäten.
      * @param uniqueIdentifier Eindeutige Kennung des Graphen
      * @param edges Kantenmenge des Graphen
      * @param nodes Knotenmenge des Graphen
      */
     public Graph(String uniqueIdentifier, Set<Edge> edges, Set<Node> nodes) {
         this.uniqueIdentifier = uniqueIdentifier;
-        this.edges = copyEdges(edges);
-        this.nodes = copyNodes(nodes);
-        this.adjacencyMap = new HashMap<>();
+        this.edgeStore = new EdgeStore();
+        this.symbolTable = new NodeSymbolTable();
+        this.inDegrees = new int[INITIAL_NODE_CAPACITY];
+        this.outDegrees = new int[INITIAL_NODE_CAPACITY];
+
+        for (Node node : nodes) {
+            registerNode(node);
+        }
+        for (Edge edge : edges) {
+            addEdge(edge);
+        }
+    }
 
-        initializeAdjacencyMap();
+    /**
+     * Erstellt eine vollständige Kopie eines gegebenen Graphen, welche dieselben Knoten- und Kantenindizes
+     * verwendet.
+     * @param graph Graph, welcher kopiert wird
+     */
+    private Graph(Graph graph) {
+        this.uniqueIdentifier = graph.uniqueIdentifier;
+        this.edgeStore = graph.edgeStore.copy();
+        this.symbolTable = graph.symbolTable.copy();
+        this.inDegrees = graph.inDegrees.clone();
+        this.outDegrees = graph.outDegrees.clone();
+        this.zeroInDegreeCount = graph.zeroInDegreeCount;
+        this.zeroOutDegreeCount = graph.zeroOutDegreeCount;
     }
 
-    private void initializeAdjacencyMap() {
-        for (Node node : this.nodes) {
-            for (Edge edge : this.edges) {
-                if (edge.getSource().equals(node)) {
-                    addEdgeToMap(node, edge.getTarget());
-                }
-            }
+    /**
+     * Nimmt einen Knoten mit Eingangs- und Ausgangsgrad 0 in die Gradzählung auf,
+     * sofern er dort noch nicht enthalten ist.
+     * @param node Knoten
+     * @return Index des Knotens
+     */
+    private int registerNode(Node node) {
+        int existingId = symbolTable.getId(node);
+        if (existingId != NodeSymbolTable.NO_ID) {
+            return existingId;
+        }
+        int id = symbolTable.register(node);
+        if (id == inDegrees.length) {
+            inDegrees = Arrays.copyOf(inDegrees, inDegrees.length * GROWTH_FACTOR);
+            outDegrees = Arrays.copyOf(outDegrees, outDegrees.length * GROWTH_FACTOR);
+        }
+        zeroInDegreeCount++;
+        zeroOutDegreeCount++;
+        return id;
+    }
+
+    /**
+     * Erhöht den Ausgangsgrad des Start- und den Eingangsgrad des Zielknotens einer neuen Kante.
+     * @param source Index des Startknotens
+     * @param target Index des Zielknotens
+     */
+    private void increaseDegrees(int source, int target) {
+        if (outDegrees[source] == ZERO_DEGREE) {
+            zeroOutDegreeCount--;
+        }
+        outDegrees[source] += DEGREE_STEP;
+
+        if (inDegrees[target] == ZERO_DEGREE) {
+            zeroInDegreeCount--;
         }
+        inDegrees[target] += DEGREE_STEP;
     }
 
     /**
@@ -63,41 +122,65 @@ public final class Graph implements Comparable<Graph> {
     }
 
     /**
-     * Gibt die Menge an Kanten des Graphen zurück.
+     * Gibt die Menge an Kanten des Graphen zurück. Die Kanten werden dazu als Sicht neu erzeugt.
      * @return Kantenmenge des Graphen
      */
     public Set<Edge> getEdges() {
-        return Set.copyOf(edges);
+        Set<Edge> edges = new HashSet<>();
+        for (int edge = MINIMUM_INDEX; edge < edgeStore.size(); edge++) {
+            edges.add(toEdge(edge));
+        }
+        return edges;
+    }
+
+    /**
+     * Gibt die Anzahl an Kanten im Graphen zurück.
+     * @return Anzahl an Kanten
+     */
+    public int getEdgeCount() {
+        return edgeStore.size();
     }
 
     /**
-     * Gibt alle Kanten im Graphen als Zeichenkette zurück.
-     * Dabei werden die Kanten sortiert wie in {@link #getSortedEdgeList()} spezifiziert.
-     * Jede neue Kante wird durch einen Zeilenseperator separiert.
-     * @return Zeichenkette aller Kanten des Graphen
+     * Gibt eine unveränderliche Sicht auf alle Kanten des Graphen zurück.
+     * Die Kanten sind dabei Lexikographisch nach Startknoten und anschließend nach Zielknoten aufsteigend sortiert,
+     * wie spezifiziert in {@link EscapeRouteSectionComparator}. Die Sicht wird nicht kopiert, die einzelnen
+     * Kanten werden erst beim Zugriff erzeugt. Die Sicht ist nur bis zum Hinzufügen der nächsten Kante gültig.
+     * @return Sortierte Sicht auf alle Kanten des Graphen
      */
-    public String getEdgesString() {
-        StringBuilder builder = new StringBuilder();
-        List<Edge> sortedEdgeList = getSortedEdgeList();
-        for (int i = MINIMUM_INDEX; i < sortedEdgeList.size(); i++) {
-            builder.append(sortedEdgeList.get(i));
-            if (i < sortedEdgeList.size() - MINIMUM_SIZE) {
-                builder.append(System.lineSeparator());
+    public Collection<Edge> getSortedEdges() {
+        edgeStore.sortEdges();
+        int edgeCount = edgeStore.size();
+        return new AbstractList<>() {
+            @Override
+            public Edge get(int index) {
+                return toEdge(edgeStore.getSortedEdge(index));
             }
-        }
-        return builder.toString();
+
+            @Override
+            public int size() {
+                return edgeCount;
+            }
+        };
+    }
+
+    /**
+     * Gibt die primitive Kantenmenge des Graphen zurück, deren Knotenindizes denen der {@link NodeSymbolTable}
+     * entsprechen.
+     * @return Kantenmenge des Graphen
+     */
+    EdgeStore getEdgeStore() {
+        return edgeStore;
     }
 
     /**
-     * Gibt eine Sortierterte Liste aller Kanten des Graphen zurück.
-     * Die Kanten werden dabei Lexikographisch nach Startknoten und anschließend nach Zielknoten aufsteigend sortiert,
-     * wie spezifiziert in {@link EscapeRouteSectionComparator}.
-     * @return Sortierte Liste aller Kanten des Grpahen
+     * Erzeugt eine Sicht auf die Kante mit einem gegebenen Index.
+     * @param edge Index der Kante
+     * @return Kante mit den aktuellen Knoten und der aktuellen Kapazität
      */
-    public List<Edge> getSortedEdgeList() {
-        List<Edge> sortedEdges = new ArrayList<>(this.edges);
-        sortedEdges.sort(new EscapeRouteSectionComparator());
-        return List.copyOf(sortedEdges);
+    private Edge toEdge(int edge) {
+        return new Edge(symbolTable.getNode(edgeStore.getSource(edge)), symbolTable.getNode(edgeStore.getTarget(edge)),
+                edgeStore.getCapacity(edge));
     }
 
     /**
@@ -106,23 +189,20 @@ public final class Graph implements Comparable<Graph> {
      * @return Wahrheitswert, ob Knoten im Graphen existiert
      */
     public boolean containsNode(Node node) {
-        return this.nodes.contains(node);
+        return symbolTable.getId(node) != NodeSymbolTable.NO_ID;
     }
 
     /**
-     * Ermittelt eine Kante anhand des Startknotens und gibt diese zurück.
-     * Falls keine Kante mit dem gegebenen Knoten als Startknoten existiert wird {@code null} zurückgegeben.
+     * Ermittelt eine Kante anhand des Start- und Zielknotens und gibt eine Sicht auf diese zurück.
+     * Veränderungen der Sicht wirken sich nicht auf den Graphen aus.
+     * Falls keine Kante vom Start- zum Zielknoten existiert wird {@code null} zurückgegeben.
      * @param source Startknoten
      * @param target Zielknoten
      * @return Kante ausgehend vom Start- zum Zielknoten
      */
     public Edge getEdge(Node source, Node target) {
-        for (Edge edge : this.edges) {
-            if (edge.getSource().equals(source) && edge.getTarget().equals(target)) {
-                return edge;
-            }
-        }
-        return null;
+        int edge = edgeStore.find(NodePair.toKey(source, target));
+        return edge == EdgeStore.NO_EDGE ? null : toEdge(edge);
     }
 
     /**
@@ -131,85 +211,41 @@ public final class Graph implements Comparable<Graph> {
      * @return Wahrheitswert, ob der Graph die gegebene Kante beinhaltet
      */
     public boolean containsEdge(Edge edge) {
-        return this.edges.contains(edge);
+        return edgeStore.find(NodePair.toKey(edge.getSource(), edge.getTarget())) != EdgeStore.NO_EDGE;
     }
 
     /**
-     * Fügt dem Graphen eine Kante hinzu.
+     * Fügt dem Graphen eine Kante hinzu. Existiert bereits eine Kante mit demselben Start- und Zielknoten, so
+     * wird lediglich deren Kapazität überschrieben.
      * @param edge Kante die hinzugefügt werden soll
      */
     public void addEdge(Edge edge) {
-        if (this.edges.contains(edge)) {
-            overwriteEdge(edge);
+        long key = NodePair.toKey(edge.getSource(), edge.getTarget());
+        int existingEdge = edgeStore.find(key);
+        if (existingEdge != EdgeStore.NO_EDGE) {
+            edgeStore.setCapacity(existingEdge, edge.getCapacity());
             return;
         }
-        this.edges.add(edge);
-        this.nodes.add(edge.getSource());
-        this.nodes.add(edge.getTarget());
-        addEdgeToMap(edge.getSource(),  edge.getTarget());
+        int source = registerNode(edge.getSource());
+        int target = registerNode(edge.getTarget());
+        edgeStore.add(key, source, target, edge.getCapacity());
+        increaseDegrees(source, target);
     }
 
     /**
-     * Überschreibt eine bereits existierende Kante mit einer anderen Kante.
-     * Dabei bleiben Start- und Zielknoten der Kante erhalten, das Gewicht kann sich jedoch ändern.
-     * Wird keine Kante gefunden mit dem selben Start- und Zielknoten wie die gegebene Kante,
-     * so wird nichts verändert.
-     * @param newEdge neue Kante mit der eine bestehende Kante überschrieben werden soll
-     */
-    public void overwriteEdge(Edge newEdge) {
-        for (Edge edge : this.edges) {
-            if (edge.equals(newEdge)) {
-                edge.setCapacity(newEdge.getCapacity());
-            }
-        }
-    }
-
-    /**
-     * Fügt dem Graphen eine Kante von einem gegebenem Start- zu einem Zielknoten hinzu.
-     * @param source Startknoten
-     * @param destination Zielknoten
-     */
-    public void addEdgeToMap(Node source, Node destination) {
-        if (!adjacencyMap.containsKey(source)) {
-            adjacencyMap.put(source, null);
-        }
-        if (!adjacencyMap.containsKey(destination)) {
-            adjacencyMap.put(destination, null);
-        }
-        addNodeNeighbourToList(source, destination);
-    }
-
-    private void addNodeNeighbourToList(Node source, Node target) {
-        List<Node> sourceList = adjacencyMap.get(source);
-        if (sourceList != null) {
-            sourceList.remove(target);
-        } else {
-            sourceList = new ArrayList<>();
-        }
-        sourceList.add(target);
-        adjacencyMap.put(source, sourceList);
-    }
-
-    /**
-     * Gibt eine Liste aller benachbarten Knoten, welche von einem gegebenen Knoten aus erreichbar sind zurück.
-     * Gibt {@code null} zurück, falls keine Nachbarknoten zu einem gegebenen Knoten existieren.
-     * @param node Ausgangsknoten
-     * @return Liste aller benachbarter Knoten
+     * Gibt die Anzahl an Knoten im Graph zurück.
+     * @return Anzahl im Knoten im Graph
      */
-    public List<Node> getNeighbourNodes(Node node) {
-        if (this.adjacencyMap.get(node) == null) {
-            return new ArrayList<>();
-        }
-        return List.copyOf(this.adjacencyMap.get(node));
+    public int getNodeCount() {
+        return symbolTable.size();
     }
 
-
     /**
-     * Gibt die Anzahl an Knoten im Graph zurück.
-     * @return Anzahl im Knoten im Graph
+     * Gibt die Symboltabelle zurück, welche jedem Knoten des Graphen einen fortlaufenden Index zuordnet.
+     * @return Symboltabelle des Graphen
      */
-    public int getNodeCount() {
-        return this.nodes.size();
+    public NodeSymbolTable getSymbolTable() {
+        return symbolTable;
     }
 
     /**
@@ -217,42 +253,48 @@ public final class Graph implements Comparable<Graph> {
      * @return Menge an Knoten
      */
     public Set<Node> getNodes() {
-        return copyNodes(this.nodes);
+        Set<Node> nodes = new HashSet<>();
+        for (int id = MINIMUM_INDEX; id < symbolTable.size(); id++) {
+            nodes.add(symbolTable.getNode(id));
+        }
+        return nodes;
     }
 
     /**
      * Überprüft ob es einen möglichen Startknoten mit dem Eingangsgrad 0 gibt.
-     * Falls ein Startknoten gefunden wurde, zu dem keine Kante hin zeigt, so wird true zurückgegeben.
      * @return ob Graph über einen Knoten mit Eingangsgrad 0 verfügt
      */
     public boolean hasSource() {
-        for (Node node : this.nodes) {
-            boolean nodeHasNoIncomingEdges = true;
-            for (Edge edge : this.edges) {
-                if (edge.getTarget().equals(node)) {
-                    nodeHasNoIncomingEdges = false;
-                }
-            }
-            if (nodeHasNoIncomingEdges) {
-                return true;
-            }
-        }
-        return false;
+        return zeroInDegreeCount > ZERO_DEGREE;
     }
 
     /**
-     * Überprüft ob es einen möglichen Zielknoten mit dem Eingangsgrad 0 gibt.
-     * Falls ein möglicher Endknoten gefunden wurde, von dem aus keine Kante weggeht, so wird true zurückgegeben.
+     * Überprüft ob es einen möglichen Zielknoten mit dem Ausgangsgrad 0 gibt.
      * @return ob Graph über einen Knoten mit Ausgangsgrad 0 verfügt
      */
     public boolean hasSink() {
-        for (Node node : getNodes()) {
-            List<Node> neighbourNodes = this.adjacencyMap.get(node);
-            if (neighbourNodes == null) {
-                return true;
-            }
+        return zeroOutDegreeCount > ZERO_DEGREE;
+    }
+
+    /**
+     * Überprüft, ob der Graph nach dem Hinzufügen einer gegebenen Kante weiterhin über einen möglichen Startknoten
+     * mit Eingangsgrad 0 und einen möglichen Zielknoten mit Ausgangsgrad 0 verfügen würde.
+     * Der Graph selbst wird dabei nicht verändert, das Ergebnis wird allein aus den Gradänderungen bestimmt.
+     * @param edge Kante, deren Hinzufügen überprüft werden soll
+     * @return ob nach dem Hinzufügen der Kante ein Start- und ein Zielknoten existieren würden
+     */
+    public boolean hasSourceAndSinkAfterAdding(Edge edge) {
+        if (containsEdge(edge)) {
+            //Überschreiben einer Kante verändert keine Knotengrade
+            return hasSource() && hasSink();
         }
-        return false;
+        int newNodeCount = (containsNode(edge.getSource()) ? ZERO_DEGREE : DEGREE_STEP)
+                + (containsNode(edge.getTarget()) ? ZERO_DEGREE : DEGREE_STEP);
+        int zeroInDegreeCountAfter = zeroInDegreeCount + newNodeCount - (isSource(edge.getTarget()) ? DEGREE_STEP
+                : ZERO_DEGREE);
+        int zeroOutDegreeCountAfter = zeroOutDegreeCount + newNodeCount - (isSink(edge.getSource()) ? DEGREE_STEP
+                : ZERO_DEGREE);
+        return zeroInDegreeCountAfter > ZERO_DEGREE && zeroOutDegreeCountAfter > ZERO_DEGREE;
     }
 
     /**
@@ -262,7 +304,8 @@ public final class Graph implements Comparable<Graph> {
      * @return ob Knoten ein zulässiger Zielknoten ist
      */
     public boolean isSink(Node sinkNode) {
-        return this.adjacencyMap.get(sinkNode) == null;
+        int id = symbolTable.getId(sinkNode);
+        return id == NodeSymbolTable.NO_ID || outDegrees[id] == ZERO_DEGREE;
     }
 
     /**
@@ -272,12 +315,8 @@ public final class Graph implements Comparable<Graph> {
      * @return ob Knoten ein zulässiger Startknoten ist
      */
     public boolean isSource(Node sourceNode) {
-        for (Edge edge : this.edges) {
-            if (edge.getTarget().equals(sourceNode)) {
-                return false;
-            }
-        }
-        return true;
+        int id = symbolTable.getId(sourceNode);
+        return id == NodeSymbolTable.NO_ID || inDegrees[id] == ZERO_DEGREE;
     }
 
     /**
@@ -293,27 +332,11 @@ public final class Graph implements Comparable<Graph> {
     }
 
     /**
-     * Gibt eine Kopie des Graphen zurück. Dabei werden alle Kanten und Knoten vollständig kopiert.
+     * Gibt eine Kopie des Graphen zurück. Dabei werden die Felder aller Kanten und Knoten vollständig kopiert.
      * @return Kopie des Graphen
      */
     public Graph copy() {
-        return new Graph(uniqueIdentifier, copyEdges(edges), copyNodes(nodes));
-    }
-
-    private Set<Edge> copyEdges(Collection<Edge> edges) {
-        Set<Edge> edgesCopy = new HashSet<>();
-        for (Edge edge : edges) {
-            edgesCopy.add(edge.copy());
-        }
-        return edgesCopy;
-    }
-
-    private Set<Node> copyNodes(Collection<Node> nodes) {
-        Set<Node> nodesCopy = new HashSet<>();
-        for (Node node : nodes) {
-            nodesCopy.add(node);
-        }
-        return nodesCopy;
+        return new Graph(this);
     }
 
 }
@@ -0,0 +1,163 @@
+package edu.kit.informatik.escaperoutenetwork.graph;
+
+/**
+ * Modelliert eine Zuordnung von Ganzzahlschlüsseln zu nichtnegativen Indizes, etwa den gepackten Kennungen aus
+ * {@link Node} oder den Schlüsseln aus {@link NodePair#toKey(Node, Node)}.
+ * Die Zuordnung ist als Hashtabelle mit offener Adressierung und linearer Sondierung über zwei primitive Felder
+ * umgesetzt, sodass beim Nachschlagen weder Schlüssel- noch Wertobjekte erzeugt werden. Die Tabelle ist höchstens
+ * zur Hälfte gefüllt und wird bei Bedarf verdoppelt. Beim Entfernen werden nachfolgende Einträge derselben
+ * Sondierungskette zurückverschoben, sodass keine Löschmarkierungen benötigt werden.
+ * Der Schlüssel {@link #EMPTY_KEY} markiert freie Plätze und kann daher nicht zugeordnet werden.
+ * @author Phil Gengenbach
+ * @version 1.0
+ */
+public final class LongIndexMap {
+
+    /**
+     * Schlüssel, der einen freien Platz der Tabelle markiert. Gepackte Kennungen und Schlüssel sind nie {@code 0}.
+     */
+    public static final long EMPTY_KEY = 0;
+    /**
+     * Index, der einen nicht enthaltenen Schlüssel markiert.
+     */
+    public static final int NO_INDEX = -1;
+
+    private static final int INITIAL_CAPACITY = 16;
+    private static final int GROWTH_FACTOR = 2;
+    private static final int LOAD_DENOMINATOR = 2;
+    private static final int NEXT_SLOT = 1;
+    private static final int START_INDEX = 0;
+    private static final int HASH_SHIFT = 32;
+    private static final long HASH_MULTIPLIER = 0x9E3779B97F4A7C15L;
+
+    private long[] keys;
+    private int[] indices;
+    private int size;
+
+    /**
+     * Erstellt eine neue, leere Zuordnung.
+     */
+    public LongIndexMap() {
+        clear();
+    }
+
+    /**
+     * Erstellt eine vollständige Kopie einer gegebenen Zuordnung.
+     * @param indexMap Zuordnung, welche kopiert wird
+     */
+    private LongIndexMap(LongIndexMap indexMap) {
+        this.keys = indexMap.keys.clone();
+        this.indices = indexMap.indices.clone();
+        this.size = indexMap.size;
+    }
+
+    /**
+     * Gibt den Index eines Schlüssels zurück.
+     * @param key Schlüssel
+     * @return Index des Schlüssels oder {@link #NO_INDEX}, falls der Schlüssel nicht enthalten ist
+     */
+    public int get(long key) {
+        int slot = findSlot(key);
+        return keys[slot] == EMPTY_KEY ? NO_INDEX : indices[slot];
+    }
+
+    /**
+     * Ordnet einem Schlüssel einen Index zu. Ist der Schlüssel bereits enthalten, so wird sein Index ersetzt.
+     * @param key Schlüssel, ungleich {@link #EMPTY_KEY}
+     * @param index Index
+     */
+    public void put(long key, int index) {
+        int slot = findSlot(key);
+        if (keys[slot] == EMPTY_KEY) {
+            if ((size + NEXT_SLOT) * LOAD_DENOMINATOR > keys.length) {
+                resize();
+                slot = findSlot(key);
+            }
+            keys[slot] = key;
+            size++;
+        }
+        indices[slot] = index;
+    }
+
+    /**
+     * Entfernt einen Schlüssel. Nachfolgende Einträge derselben Sondierungskette werden dabei zurückverschoben.
+     * @param key Schlüssel
+     */
+    public void remove(long key) {
+        int emptySlot = findSlot(key);
+        if (keys[emptySlot] == EMPTY_KEY) {
+            return;
+        }
+        int mask = keys.length - NEXT_SLOT;
+        for (int slot = (emptySlot + NEXT_SLOT) & mask; keys[slot] != EMPTY_KEY; slot = (slot + NEXT_SLOT) & mask) {
+            int homeSlot = hash(keys[slot]) & mask;
+            boolean movable = emptySlot <= slot ? homeSlot <= emptySlot || homeSlot > slot
+                    : homeSlot <= emptySlot && homeSlot > slot;
+            if (movable) {
+                keys[emptySlot] = keys[slot];
+                indices[emptySlot] = indices[slot];
+                emptySlot = slot;
+            }
+        }
+        keys[emptySlot] = EMPTY_KEY;
+        size--;
+    }
+
+    /**
+     * Gibt die Anzahl an Schlüsseln zurück.
+     * @return Anzahl an Schlüsseln
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Entfernt alle Schlüssel.
+     */
+    public void clear() {
+        this.keys = new long[INITIAL_CAPACITY];
+        this.indices = new int[INITIAL_CAPACITY];
+        this.size = START_INDEX;
+    }
+
+    /**
+     * Gibt eine vollständige Kopie der Zuordnung zurück.
+     * @return Kopie der Zuordnung
+     */
+    public LongIndexMap copy() {
+        return new LongIndexMap(this);
+    }
+
+    /**
+     * Sucht den Platz eines Schlüssels über lineare Sondierung.
+     * @param key Schlüssel
+     * @return Platz des Schlüssels oder erster freier Platz seiner Sondierungskette
+     */
+    private int findSlot(long key) {
+        int mask = keys.length - NEXT_SLOT;
+        int slot = hash(key) & mask;
+        while (keys[slot] != EMPTY_KEY && keys[slot] != key) {
+            slot = (slot + NEXT_SLOT) & mask;
+        }
+        return slot;
+    }
+
+    private void resize() {
+        long[] oldKeys = keys;
+        int[] oldIndices = indices;
+        this.keys = new long[oldKeys.length * GROWTH_FACTOR];
+        this.indices = new int[oldIndices.length * GROWTH_FACTOR];
+        for (int slot = START_INDEX; slot < oldKeys.length; slot++) {
+            if (oldKeys[slot] != EMPTY_KEY) {
+                int newSlot = findSlot(oldKeys[slot]);
+                keys[newSlot] = oldKeys[slot];
+                indices[newSlot] = oldIndices[slot];
+            }
+        }
+    }
+
+    private static int hash(long key) {
+        long mixed = key * HASH_MULTIPLIER;
+        return (int) (mixed ^ (mixed >>> HASH_SHIFT));
+    }
+}
@@ -1,13 +1,14 @@
 package edu.kit.informatik.escaperoutenetwork.graph;
 
-import edu.kit.informatik.escaperoutenetwork.exception.EscapeNetworkInputException;
-
-import java.util.Objects;
-
 /**
  * Modelliert einen Knoten eines gerichteten Graphen mit einer eindeutigen Kennung.
  * Ein Knoten implementiert das Comparable Interface und kann mit anderen Knoten
  * lexikographisch anhand der eindeutigen Kennung verglichen werden.
+ * Die Kennung wird dabei nicht als Zeichenkette, sondern gepackt als Ganzzahl zur Basis 27 gespeichert:
+ * Jeder Buchstabe wird auf eine Ziffer von 1 bis 26 abgebildet und die Kennung linksbündig auf sechs Stellen
+ * mit der Ziffer 0 aufgefüllt. Dadurch entspricht die numerische Reihenfolge der gepackten Kennungen genau
+ * der lexikographischen Reihenfolge der Zeichenketten, sodass Vergleiche und Hashwerte ohne
+ * Zeichenkettenoperationen auskommen. Die Zeichenkette wird erst bei der Ausgabe wiederhergestellt.
  * @author Phil Gengenbach
  * @version 1.0
  */
@@ -17,24 +18,154 @@ public class Node implements Comparable<Node> {
      * Regulärer Ausdruck für die Eindeutige Kennung von Knoten.
      */
     public static final String IDENTIFIER_REGEX = "[a-z]{1,6}";
-    private final String uniqueIdentifier;
+
+    /**
+     * Maximale Länge der Kennung eines Knotens.
+     */
+    public static final int MAXIMUM_IDENTIFIER_LENGTH = 6;
+
+    /**
+     * Anzahl an Bits, die eine gepackte Kennung höchstens belegt, da 27^6 kleiner als 2^29 ist.
+     */
+    public static final int PACKED_IDENTIFIER_BITS = 29;
+
+    private static final int RADIX = 27;
+    private static final int PADDING_DIGIT = 0;
+    private static final char FIRST_LETTER = 'a';
+    private static final char LAST_LETTER = 'z';
+    private static final int FIRST_LETTER_DIGIT = 1;
+    private static final int START_INDEX = 0;
+    private static final int MINIMUM_IDENTIFIER_LENGTH = 1;
+    /**
+     * Stellenwert der höchstwertigen Stelle einer gepackten Kennung, also 27^5.
+     */
+    private static final long HIGHEST_PLACE_VALUE = 14348907;
+
+    private final long packedIdentifier;
 
     /**
      * Erstellt eine neue Instanz eines Knoten von einem gerichteten Graphen.
-     * @param uniqueIdentifier Eindeutige Kennung des Knoten
-     * @throws EscapeNetworkInputException wirft eine Exception, wenn die eindeutige Kennung nicht
-     * aus mindestes einem und maximal sechs lateinischen Großbuchstaben besteht
+     * Die Kennung wird dabei nicht überprüft, sondern muss zuvor über {@link #isValidIdentifier(CharSequence)}
+     * validiert werden.
+     * @param uniqueIdentifier Eindeutige Kennung des Knoten aus ein bis sechs Kleinbuchstaben
      */
     public Node(String uniqueIdentifier) {
-        this.uniqueIdentifier = uniqueIdentifier;
+        this.packedIdentifier = pack(uniqueIdentifier);
+    }
+
+    /**
+     * Erstellt eine neue Instanz eines Knoten aus einer bereits gepackten Kennung.
+     * @param packedIdentifier gepackte Kennung des Knotens, wie von {@link #pack(CharSequence)} erzeugt
+     */
+    public Node(long packedIdentifier) {
+        this.packedIdentifier = packedIdentifier;
+    }
+
+    /**
+     * Überprüft ohne regulären Ausdruck, ob eine Zeichenkette eine gültige Kennung eines Knotens nach
+     * {@link #IDENTIFIER_REGEX} ist.
+     * @param identifier Zeichenkette
+     * @return ob die Zeichenkette eine gültige Kennung ist
+     */
+    public static boolean isValidIdentifier(CharSequence identifier) {
+        if (identifier.length() < MINIMUM_IDENTIFIER_LENGTH || identifier.length() > MAXIMUM_IDENTIFIER_LENGTH) {
+            return false;
+        }
+        for (int i = START_INDEX; i < identifier.length(); i++) {
+            if (!isIdentifierLetter(identifier.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Überprüft, ob ein Zeichen ein in Kennungen zulässiger Kleinbuchstabe ist.
+     * @param character Zeichen
+     * @return ob das Zeichen ein Kleinbuchstabe ist
+     */
+    public static boolean isIdentifierLetter(char character) {
+        return character >= FIRST_LETTER && character <= LAST_LETTER;
     }
 
     /**
-     * Gibt die eindeutige Kennung eines Knoten zurück
+     * Packt eine Kennung aus Kleinbuchstaben linksbündig in eine Ganzzahl zur Basis 27.
+     * @param uniqueIdentifier Kennung aus ein bis sechs Kleinbuchstaben
+     * @return gepackte Kennung
+     */
+    public static long pack(CharSequence uniqueIdentifier) {
+        return pack(uniqueIdentifier, START_INDEX, uniqueIdentifier.length());
+    }
+
+    /**
+     * Packt einen Ausschnitt einer Zeichenkette, welcher eine Kennung aus Kleinbuchstaben enthält, linksbündig in
+     * eine Ganzzahl zur Basis 27, ohne den Ausschnitt als eigene Zeichenkette zu erzeugen.
+     * @param characters Zeichenkette
+     * @param start Index des ersten Buchstabens der Kennung
+     * @param end Index hinter dem letzten Buchstaben der Kennung
+     * @return gepackte Kennung
+     */
+    public static long pack(CharSequence characters, int start, int end) {
+        long packed = PADDING_DIGIT;
+        for (int i = START_INDEX; i < MAXIMUM_IDENTIFIER_LENGTH; i++) {
+            packed *= RADIX;
+            if (start + i < end) {
+                packed += characters.charAt(start + i) - FIRST_LETTER + FIRST_LETTER_DIGIT;
+            }
+        }
+        return packed;
+    }
+
+    /**
+     * Gibt die gepackte Kennung des Knotens zurück.
+     * @return gepackte Kennung des Knotens
+     */
+    public long getPackedIdentifier() {
+        return packedIdentifier;
+    }
+
+    /**
+     * Gibt die eindeutige Kennung eines Knoten zurück. Die Kennung wird dazu aus der gepackten Kennung entpackt.
      * @return Eindeutige Kennung des Knoten
      */
     public String getUniqueIdentifier() {
-        return uniqueIdentifier;
+        return unpack(packedIdentifier);
+    }
+
+    /**
+     * Entpackt eine gepackte Kennung wieder zu einer Zeichenkette aus Kleinbuchstaben.
+     * @param packedIdentifier gepackte Kennung
+     * @return Kennung als Zeichenkette
+     */
+    public static String unpack(long packedIdentifier) {
+        StringBuilder builder = new StringBuilder(MAXIMUM_IDENTIFIER_LENGTH);
+        appendUnpacked(packedIdentifier, builder);
+        return builder.toString();
+    }
+
+    /**
+     * Entpackt eine gepackte Kennung und hängt sie direkt an einen gegebenen StringBuilder an.
+     * Die Buchstaben werden dabei von der höchstwertigen Stelle an abgetrennt, bis nur noch Füllziffern folgen.
+     * @param packedIdentifier gepackte Kennung
+     * @param builder StringBuilder, an den die Kennung angehängt wird
+     */
+    public static void appendUnpacked(long packedIdentifier, StringBuilder builder) {
+        long remaining = packedIdentifier;
+        long placeValue = HIGHEST_PLACE_VALUE;
+        while (remaining != PADDING_DIGIT) {
+            int digit = (int) (remaining / placeValue);
+            builder.append((char) (FIRST_LETTER + digit - FIRST_LETTER_DIGIT));
+            remaining -= digit * placeValue;
+            placeValue /= RADIX;
+        }
+    }
+
+    /**
+     * Hängt die eindeutige Kennung des Knotens an einen gegebenen StringBuilder an.
+     * @param builder StringBuilder, an den die Kennung angehängt wird
+     */
+    public void appendTo(StringBuilder builder) {
+        appendUnpacked(packedIdentifier, builder);
     }
 
     /**
@@ -43,7 +174,7 @@ public class Node implements Comparable<Node> {
      */
     @Override
     public String toString() {
-        return uniqueIdentifier;
+        return getUniqueIdentifier();
     }
 
     @Override
@@ -57,17 +188,18 @@ public class Node implements Comparable<Node> {
         }
 
         Node node = (Node) object;
-        return uniqueIdentifier.equals(node.uniqueIdentifier);
+        return packedIdentifier == node.packedIdentifier;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(uniqueIdentifier);
+        return Long.hashCode(packedIdentifier);
     }
 
 
     /**
      * Vergleicht zwei Knoten anhand ihrer eindeutigen Zeichenkennung lexikographisch.
+     * Dazu genügt der numerische Vergleich der gepackten Kennungen.
      * Das Ergebnis ist eine negative Ganzzahl, wenn das String Objekt lexikographisch vorrangeht.
      * Das Ergebnis ist eine postive Ganzzahl, wenn das String Objekt lexikographisch folgt.
      * Das Ergebnis ist 0, wenn die Kennung der beiden Knoten gleich ist.
@@ -76,7 +208,7 @@ public class Node implements Comparable<Node> {
      */
     @Override
     public int compareTo(Node otherNode) {
-        return getUniqueIdentifier().compareTo(otherNode.getUniqueIdentifier());
+        return Long.compare(packedIdentifier, otherNode.packedIdentifier);
     }
 
 
@@ -1,61 +1,50 @@
 package edu.kit.informatik.escaperoutenetwork.graph;
 
-import java.util.Objects;
+import edu.kit.informatik.escaperoutenetwork.exception.ErrorMessages;
 
 /**
- * Modelliert ein Knotentupel bestehend aus einem beliebigen Start- und Zielknoten-Paar eines Graphen.
+ * Stellt Hilfsmethoden bereit, welche die gepackten Kennungen eines Start- und eines Zielknotens zu einem
+ * gemeinsamen Schlüssel zusammenfassen und wieder daraus gewinnen, ohne ein Knotentupel zu erzeugen.
  * @author Phil Gengenbach
  * @version 1.0
  */
-public class NodePair {
+public final class NodePair {
 
-    private final Node startNode;
-    private final Node targetNode;
+    private static final long PACKED_IDENTIFIER_MASK = (1L << Node.PACKED_IDENTIFIER_BITS) - 1;
 
     /**
-     * Erstellt eine neue Instanz eines Knotentupels aus gegebenen Start- und Zielknoten.
-     * @param startNode Startknoten
-     * @param targetNode Zielknoten
+     * Privater Konstruktor, da Utillity Klasse
      */
-    public NodePair(Node startNode, Node targetNode) {
-        this.startNode = startNode;
-        this.targetNode = targetNode;
+    private NodePair() {
+        throw new IllegalStateException(ErrorMessages.ILLEGAL_STATE.toString());
     }
 
     /**
-     * Gibt den Startknoten des Tupels zurück.
-     * @return Startknoten
+     * Fasst die gepackten Kennungen eines Start- und eines Zielknotens zu einem gemeinsamen Schlüssel zusammen.
+     * Die Schlüssel sind nach Start- und anschließend nach Zielknoten lexikographisch geordnet.
+     * @param startNode Startknoten
+     * @param targetNode Zielknoten
+     * @return gepackter Schlüssel
      */
-    public Node getStartNode() {
-        return startNode;
+    public static long toKey(Node startNode, Node targetNode) {
+        return startNode.getPackedIdentifier() << Node.PACKED_IDENTIFIER_BITS | targetNode.getPackedIdentifier();
     }
 
     /**
-     * Gibt den Endknoten des Tupels zurück.
-     * @return Endknoten
+     * Gibt die gepackte Kennung des Startknotens eines gepackten Schlüssels zurück.
+     * @param key gepackter Schlüssel
+     * @return gepackte Kennung des Startknotens
      */
-    public Node getTargetNode() {
-        return targetNode;
-    }
-
-
-    @Override
-    public boolean equals(Object object) {
-        if (this == object) {
-            return true;
-        }
-
-        if (object == null || getClass() != object.getClass()) {
-            return false;
-        }
-
-        NodePair nodePair = (NodePair) object;
-        return startNode.equals(nodePair.startNode) && targetNode.equals(nodePair.targetNode);
+    public static long getStartPackedIdentifier(long key) {
+        return key >>> Node.PACKED_IDENTIFIER_BITS;
     }
 
-    @Override
-    public int hashCode() {
-        return Objects.hash(startNode) * Objects.hash(targetNode);
+    /**
+     * Gibt die gepackte Kennung des Zielknotens eines gepackten Schlüssels zurück.
+     * @param key gepackter Schlüssel
+     * @return gepackte Kennung des Zielknotens
+     */
+    public static long getTargetPackedIdentifier(long key) {
+        return key & PACKED_IDENTIFIER_MASK;
     }
-
 }
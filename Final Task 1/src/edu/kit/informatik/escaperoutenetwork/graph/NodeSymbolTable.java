@@ -0,0 +1,100 @@
+package edu.kit.informatik.escaperoutenetwork.graph;
+
+import java.util.Arrays;
+
+/**
+ * Modelliert eine Symboltabelle, welche jedem Knoten eines Graphen anhand seiner gepackten Kennung eine
+ * fortlaufende Ganzzahl ab {@code 0} zuordnet. Die Zuordnung ist dauerhaft, einmal vergebene Indizes ändern sich
+ * nicht mehr.
+ * Die Zuordnung wird in einer {@link LongIndexMap} über primitive Felder abgelegt, sodass beim Nachschlagen
+ * weder Zeichenketten verglichen noch Objekte erzeugt werden.
+ * @author Phil Gengenbach
+ * @version 1.0
+ */
+public final class NodeSymbolTable {
+
+    /**
+     * Index, der einen nicht in der Tabelle enthaltenen Knoten markiert.
+     */
+    public static final int NO_ID = LongIndexMap.NO_INDEX;
+
+    private static final int INITIAL_CAPACITY = 16;
+    private static final int GROWTH_FACTOR = 2;
+
+    private final LongIndexMap ids;
+    private Node[] nodes;
+    private int size;
+
+    /**
+     * Erstellt eine neue, leere Symboltabelle.
+     */
+    public NodeSymbolTable() {
+        this.ids = new LongIndexMap();
+        this.nodes = new Node[INITIAL_CAPACITY];
+    }
+
+    /**
+     * Erstellt eine vollständige Kopie einer gegebenen Symboltabelle, welche dieselben Indizes vergibt.
+     * Die Knoten selbst sind unveränderlich und werden daher geteilt.
+     * @param symbolTable Symboltabelle, welche kopiert wird
+     */
+    private NodeSymbolTable(NodeSymbolTable symbolTable) {
+        this.ids = symbolTable.ids.copy();
+        this.nodes = symbolTable.nodes.clone();
+        this.size = symbolTable.size;
+    }
+
+    /**
+     * Gibt den Index eines Knotens zurück.
+     * @param node Knoten
+     * @return Index des Knotens oder {@link #NO_ID}, falls der Knoten nicht enthalten ist
+     */
+    public int getId(Node node) {
+        return ids.get(node.getPackedIdentifier());
+    }
+
+    /**
+     * Gibt den Index eines Knotens zurück und vergibt einen neuen Index, falls der Knoten noch nicht
+     * enthalten ist.
+     * @param node Knoten
+     * @return Index des Knotens
+     */
+    public int register(Node node) {
+        int id = getId(node);
+        if (id != NO_ID) {
+            return id;
+        }
+        id = size++;
+        ids.put(node.getPackedIdentifier(), id);
+        if (id == nodes.length) {
+            nodes = Arrays.copyOf(nodes, nodes.length * GROWTH_FACTOR);
+        }
+        nodes[id] = node;
+        return id;
+    }
+
+    /**
+     * Gibt den Knoten mit einem gegebenen Index zurück.
+     * @param id Index des Knotens
+     * @return Knoten
+     */
+    public Node getNode(int id) {
+        return nodes[id];
+    }
+
+    /**
+     * Gibt die Anzahl an Knoten in der Symboltabelle zurück.
+     * @return Anzahl an Knoten
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Gibt eine vollständige Kopie der Symboltabelle zurück, welche dieselben Indizes vergibt.
+     * @return Kopie der Symboltabelle
+     */
+    public NodeSymbolTable copy() {
+        return new NodeSymbolTable(this);
+    }
+}
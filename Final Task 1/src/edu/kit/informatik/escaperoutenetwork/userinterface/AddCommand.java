@@ -29,20 +29,8 @@ public final class AddCommand extends Command {
     public static final String ADD_COMMAND_NAME = "add";
 
     private static final int MAXIMUM_ARGUMENT_LENGTH = 2;
-    private static final int MAXIMUM_ADDING_SECTION_COUNT = 1;
     private static final int MINIMUM_EDGE_COUNT = 2;
 
-    private static final String EMPTY_STRING = "";
-    private static final String COMMA_SEPERATOR = ";";
-
-    private static final String NODE_IDENTIFIER_REGEX = "[a-z]{1,6}";
-    private static final String NUMBER_REGEX = "[0]*[1-9][0-9]*";
-    private static final String ROUTE_SECTION_REGEX = NODE_IDENTIFIER_REGEX + NUMBER_REGEX + NODE_IDENTIFIER_REGEX;
-
-
-    private static final int INVALID_WEIGHT = 0;
-    private static final int SPLIT_LIMITER = -1;
-
     private final EscapeRouteNetworkManager escapeRouteNetworkManager;
 
     private Set<Edge> edges;
@@ -67,38 +55,37 @@ public final class AddCommand extends Command {
         if (arguments.length != getMaximumArgumentLength()) {
             throw new EscapeNetworkInputException(ErrorMessages.LENGTH.toString());
         }
-        if (!arguments[0].matches(EscapeRouteNetwork.IDENTIFIER_REGEX)) {
+        if (!EscapeRouteNetwork.isValidIdentifier(arguments[0])) {
             throw new EscapeNetworkInputException(ErrorMessages.INVALID_FORMAT.toString());
         }
         this.escapeNetworkIdentifier = arguments[0];
 
-        String[] edgeStrings = arguments[1].split(COMMA_SEPERATOR, SPLIT_LIMITER);
+        RouteSectionScanner scanner = new RouteSectionScanner(arguments[1]);
 
         if (escapeRouteNetworkManager.containsEscapeRouteNetworkWithIdentifier(escapeNetworkIdentifier)) {
             this.escapeRouteNetwork = escapeRouteNetworkManager.
                     getEscapeRouteNetworkByIdentifier(escapeNetworkIdentifier);
             this.newGraph = escapeRouteNetwork.getDirectedGraph();
 
-            if (edgeStrings.length != MAXIMUM_ADDING_SECTION_COUNT) {
+            if (scanner.hasMultipleSections()) {
                 throw new EscapeNetworkInputException(ErrorMessages.INVALID_FORMAT.toString());
             }
 
-            String currentRouteSectionString = edgeStrings[0];
-            edgeToAdd = parseRouteSectionString(currentRouteSectionString);
+            edgeToAdd = parseNextRouteSection(scanner);
 
             if (escapeRouteNetwork.getDirectedGraph().containsEdge(edgeToAdd.getInvertedEdge())) {
                 throw new EscapeNetworkInputException(ErrorMessages.PARALLEL_OPPOSITE_EDGE.toString());
             }
 
             //Überprüfe Knoten mit neu hinzugefügter Kante auf vorhandene Start- und Zielknoten
-            Graph copyGraph = newGraph.copy();
-            copyGraph.addEdge(edgeToAdd);
-            checkForSinkAndSource(copyGraph);
+            if (!newGraph.hasSourceAndSinkAfterAdding(edgeToAdd)) {
+                throw new EscapeNetworkInputException(ErrorMessages.INVALID_START_TARGET_NODE.toString());
+            }
             return;
         }
 
-        for (String currentRouteSectionString : edgeStrings) {
-            Edge edge = parseRouteSectionString(currentRouteSectionString);
+        while (scanner.hasNextSection()) {
+            Edge edge = parseNextRouteSection(scanner);
             if (edges.contains(edge)) {
                 throw new EscapeNetworkInputException(ErrorMessages.DUPLICATE_EDGE.toString());
             }
@@ -130,25 +117,21 @@ public final class AddCommand extends Command {
     }
 
     /**
-     * Verarbeitet einen gegebene Zeichenkette zu einer Kante / Fluchtwegeabschnitt des Fluchtwegenetzes.
-     * Dabei wird überprüft, ob das Format der Zeichenkette dem notwendigen Format eines
+     * Liest den nächsten Fluchtwegeabschnitt über einen gegebenen Scanner ein und verarbeitet ihn zu einer
+     * Kante / Fluchtwegeabschnitt des Fluchtwegenetzes.
+     * Dabei wird überprüft, ob das Format des Abschnitts dem notwendigen Format eines
      * Fluchtwegeabschnittes entspricht.
-     * @param routeSectionString Fluchtwegeabschnitt als Zeichenkette
+     * @param scanner Scanner über alle Fluchtwegeabschnitte
      * @return Fluchtwegeabschnitt
-     * @throws EscapeNetworkException falls das Format des Strings kein Fluchtwegeabschnitt darstellt
+     * @throws EscapeNetworkException falls das Format des Abschnitts kein Fluchtwegeabschnitt darstellt
      * oder die invertierte Kante bereits in der Liste ist
      */
-    private Edge parseRouteSectionString(String routeSectionString) throws EscapeNetworkInputException {
-        if (!routeSectionString.matches(ROUTE_SECTION_REGEX)) {
-            throw new EscapeNetworkInputException(ErrorMessages.INVALID_FORMAT.toString());
-        }
-        String[] currentRouteSectionStringIdentifiers = routeSectionString.split(NUMBER_REGEX);
-        Node sourceNode = new Node(currentRouteSectionStringIdentifiers[0]);
-        Node targetNode = new Node(currentRouteSectionStringIdentifiers[1]);
-        String weightString = routeSectionString.replaceAll(NODE_IDENTIFIER_REGEX, EMPTY_STRING);
-        int weight = parseWeight(weightString);
+    private Edge parseNextRouteSection(RouteSectionScanner scanner) throws EscapeNetworkInputException {
+        scanner.nextSection();
+        Node sourceNode = new Node(scanner.getSourceIdentifier());
+        Node targetNode = new Node(scanner.getTargetIdentifier());
 
-        Edge edge = new Edge(sourceNode, targetNode, weight);
+        Edge edge = new Edge(sourceNode, targetNode, scanner.getCapacity());
 
         if (sourceNode.equals(targetNode)) {
             throw new EscapeNetworkInputException(ErrorMessages.GRAPH_CONTAINS_LOOPS.toString());
@@ -172,19 +155,6 @@ public final class AddCommand extends Command {
         }
     }
 
-    private int parseWeight(String weightString) throws EscapeNetworkInputException {
-        int weight;
-        try {
-            weight = Integer.parseInt(weightString);
-            if (weight <= INVALID_WEIGHT) {
-                throw new EscapeNetworkInputException(ErrorMessages.INVALID_CAPACITY.toString());
-            }
-        } catch (NumberFormatException numberFormatException) {
-            throw new EscapeNetworkInputException(ErrorMessages.INVALID_CAPACITY.toString());
-        }
-        return weight;
-    }
-
     @Override
     public Result execute() {
         if (escapeRouteNetwork == null) {
@@ -195,8 +165,8 @@ public final class AddCommand extends Command {
                     String.format(OutputStrings.ADDED_NETWORK.toString(), escapeNetworkIdentifier));
         }
         //Fluchtwegenetz existiert bereits -> Füge Kante bestehendem Netz hinzu
-        newGraph.addEdge(edgeToAdd);
-        escapeRouteNetwork.getCalculator().resetMaximumFlowMap();
+        escapeRouteNetworkManager.addEdgeToEscapeRouteNetwork(escapeRouteNetwork, edgeToAdd);
+        escapeRouteNetwork.getCalculator().updateAfterEdgeAddition();
         return new Result(Result.ResultType.SUCCESS, String.format(
                 OutputStrings.ADDED_EDGE.toString(), edgeToAdd.toString(), escapeNetworkIdentifier));
     }
@@ -0,0 +1,190 @@
+package edu.kit.informatik.escaperoutenetwork.userinterface;
+
+import edu.kit.informatik.Terminal;
+import edu.kit.informatik.escaperoutenetwork.core.OutputStrings;
+import edu.kit.informatik.escaperoutenetwork.core.Result;
+import edu.kit.informatik.escaperoutenetwork.exception.ErrorMessages;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Modelliert eine nicht-interaktive Sitzung, welche die Befehle eines Skripts ohne weitere Benutzerinteraktion
+ * unmittelbar nacheinander ausführt.
+ * Das Skript wird dabei zeilenweise gelesen und nie vollständig in den Speicher geladen. Die Ausführung endet mit
+ * dem Ende des Skripts oder mit dem quit-Befehl.
+ * Im stillen Modus werden lediglich Fehlermeldungen mit Skriptname und Zeilennummer sowie abschließend die
+ * Anzahl ausgeführter Befehle und Fehler ausgegeben.
+ * Jede Stapelsitzung verwendet eine eigene {@link Session} und damit eine eigene Fluchtwegenetz-Verwaltung, sodass
+ * mehrere Skripte unabhängig voneinander gleichzeitig ausgeführt werden können.
+ * @author Phil Gengenbach
+ * @version 1.0
+ */
+public final class BatchSession implements Runnable {
+
+    /**
+     * Kommandozeilenparameter, welcher den stillen Modus aktiviert.
+     */
+    public static final String QUIET_OPTION = "--quiet";
+    /**
+     * Skriptname, welcher für die Standardeingabe steht.
+     */
+    public static final String STANDARD_INPUT = "-";
+
+    private static final int SINGLE_SCRIPT = 1;
+    private static final int INITIAL_COUNT = 0;
+    private static final int NEXT_LINE = 1;
+
+    private final String scriptName;
+    private final boolean quiet;
+
+    private int commandCount;
+    private int errorCount;
+
+    /**
+     * Erstellt eine neue Stapelsitzung für ein gegebenes Skript.
+     * @param scriptName Pfad des Skripts oder {@link #STANDARD_INPUT} für die Standardeingabe
+     * @param quiet ob nur Fehlermeldungen und die Anzahl ausgeführter Befehle und Fehler ausgegeben werden
+     */
+    public BatchSession(String scriptName, boolean quiet) {
+        this.scriptName = scriptName;
+        this.quiet = quiet;
+    }
+
+    /**
+     * Führt alle in den gegebenen Kommandozeilenparametern angegebenen Skripte aus.
+     * Mit {@link #QUIET_OPTION} wird der stille Modus aktiviert. Die Ausgabe erfolgt gepuffert.
+     * Ein einzelnes Skript wird direkt ausgeführt. Mehrere Skripte werden gleichzeitig auf je einer eigenen
+     * Fluchtwegenetz-Verwaltung und stets im stillen Modus ausgeführt, damit sich ihre Ausgaben nicht vermischen.
+     * @param arguments Kommandozeilenparameter aus Optionen und Skriptnamen
+     */
+    public static void runScripts(String[] arguments) {
+        boolean quiet = false;
+        List<String> scriptNames = new ArrayList<>();
+        for (String argument : arguments) {
+            if (QUIET_OPTION.equals(argument)) {
+                quiet = true;
+            } else {
+                scriptNames.add(argument);
+            }
+        }
+
+        Terminal.setBatchedOutput(true);
+        if (scriptNames.size() <= SINGLE_SCRIPT) {
+            String scriptName = scriptNames.isEmpty() ? STANDARD_INPUT : scriptNames.get(0);
+            new BatchSession(scriptName, quiet).run();
+        } else {
+            runConcurrently(scriptNames);
+        }
+        Terminal.flush();
+    }
+
+    private static void runConcurrently(List<String> scriptNames) {
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(scriptNames.size(),
+                Runtime.getRuntime().availableProcessors()));
+        for (String scriptName : scriptNames) {
+            executor.execute(new BatchSession(scriptName, true));
+        }
+        executor.shutdown();
+        try {
+            executor.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException interruptedException) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Führt das Skript aus. Kann das Skript nicht geöffnet werden, so wird eine Fehlermeldung ausgegeben.
+     * Kann eine Zeile des Skripts nicht gelesen werden, so wird dies mit Skriptname und Zeilennummer als Fehler
+     * gemeldet und die Ausführung beendet.
+     */
+    @Override
+    public void run() {
+        if (STANDARD_INPUT.equals(scriptName)) {
+            execute(Terminal::readLine);
+            return;
+        }
+        BufferedReader reader;
+        try {
+            reader = Files.newBufferedReader(Path.of(scriptName));
+        } catch (IOException | IllegalArgumentException exception) {
+            Terminal.printError(String.format(ErrorMessages.SCRIPT_NOT_READABLE.toString(), scriptName));
+            return;
+        }
+        try (reader) {
+            execute(() -> readLine(reader));
+        } catch (IOException ioException) {
+            //Das Skript wurde bereits vollständig ausgeführt, lediglich das Schließen ist fehlgeschlagen
+        }
+    }
+
+    private void execute(Supplier<String> lines) {
+        Session session = new Session();
+        this.commandCount = INITIAL_COUNT;
+        this.errorCount = INITIAL_COUNT;
+        int lineNumber = INITIAL_COUNT;
+
+        String line = nextLine(lines, lineNumber);
+        while (line != null) {
+            lineNumber++;
+            Result result = session.executeLine(line);
+            commandCount++;
+            if (result.getType() == Result.ResultType.FAILURE) {
+                errorCount++;
+                reportError(lineNumber, result.getMessage());
+            } else if (!quiet) {
+                Session.printResult(result);
+            }
+            line = session.isRunning() ? nextLine(lines, lineNumber) : null;
+        }
+
+        if (quiet) {
+            Terminal.printLine(String.format(OutputStrings.EXECUTED_SCRIPT.toString(), scriptName, commandCount,
+                    errorCount));
+        }
+    }
+
+    /**
+     * Liest die nächste Zeile des Skripts. Kann sie nicht gelesen werden, so wird dies als Fehler gemeldet und
+     * das Skript als beendet behandelt.
+     * @param lines Zeilen des Skripts
+     * @param lineNumber Nummer der zuletzt gelesenen Zeile
+     * @return nächste Zeile oder {@code null}, falls das Skript beendet ist oder nicht weiter gelesen werden kann
+     */
+    private String nextLine(Supplier<String> lines, int lineNumber) {
+        try {
+            return lines.get();
+        } catch (UncheckedIOException uncheckedIOException) {
+            errorCount++;
+            Terminal.printError(String.format(ErrorMessages.SCRIPT_LINE_NOT_READABLE.toString(), scriptName,
+                    lineNumber + NEXT_LINE));
+            return null;
+        }
+    }
+
+    private void reportError(int lineNumber, String message) {
+        if (quiet) {
+            Terminal.printError(String.format(ErrorMessages.SCRIPT_COMMAND_FAILED.toString(), scriptName,
+                    lineNumber, message));
+        } else {
+            Terminal.printError(message);
+        }
+    }
+
+    private static String readLine(BufferedReader reader) {
+        try {
+            return reader.readLine();
+        } catch (IOException ioException) {
+            throw new UncheckedIOException(ioException);
+        }
+    }
+}
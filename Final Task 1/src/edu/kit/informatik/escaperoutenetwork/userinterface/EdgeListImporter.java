@@ -0,0 +1,153 @@
+package edu.kit.informatik.escaperoutenetwork.userinterface;
+
+import edu.kit.informatik.escaperoutenetwork.exception.ErrorMessages;
+import edu.kit.informatik.escaperoutenetwork.exception.EscapeNetworkException;
+import edu.kit.informatik.escaperoutenetwork.exception.EscapeNetworkInputException;
+import edu.kit.informatik.escaperoutenetwork.graph.Edge;
+import edu.kit.informatik.escaperoutenetwork.graph.Graph;
+import edu.kit.informatik.escaperoutenetwork.graph.Node;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Set;
+
+/**
+ * Modelliert einen Import von Fluchtwegenetzen aus Dateien mit einer Kantenliste.
+ * Jeder Fluchtwegeabschnitt hat dabei das Format des add-Befehls, die Abschnitte sind durch Semikolons oder
+ * Zeilenumbrüche getrennt, leere Abschnitte werden übersprungen.
+ * Die Datei wird über einen {@link FileChannel} in Blöcken fester Größe gelesen und Zeichen für Zeichen
+ * verarbeitet, sodass zu keinem Zeitpunkt mehr als ein Block und ein einzelner Abschnitt im Speicher liegen.
+ * Da jedes Byte als ein Zeichen gelesen wird, muss die Datei ASCII-kodiert sein. Ein Byte außerhalb des
+ * ASCII-Zeichensatzes wird mit seiner Zeilennummer als Fehler gemeldet.
+ * Jeder gültige Abschnitt wird unmittelbar in den Graphen des neuen Fluchtwegenetzes eingefügt.
+ * @author Phil Gengenbach
+ * @version 1.0
+ */
+public final class EdgeListImporter {
+
+    /**
+     * Größe eines gelesenen Blocks in Byte.
+     */
+    public static final int CHUNK_SIZE = 1 << 20;
+
+    private static final int MAXIMUM_SECTION_LENGTH = 256;
+    private static final int MINIMUM_EDGE_COUNT = 2;
+    private static final int FIRST_LINE = 1;
+    private static final int EMPTY_LENGTH = 0;
+    private static final int END_OF_STREAM = -1;
+    private static final int BYTE_MASK = 0xFF;
+    private static final int MAXIMUM_ASCII_VALUE = 0x7F;
+    private static final char SECTION_SEPARATOR = ';';
+    private static final char LINE_FEED = '\n';
+    private static final char CARRIAGE_RETURN = '\r';
+
+    private final StringBuilder section;
+    private final RouteSectionScanner scanner;
+    private Graph graph;
+    private int lineNumber;
+
+    /**
+     * Erstellt einen neuen Import.
+     */
+    public EdgeListImporter() {
+        this.section = new StringBuilder(MAXIMUM_SECTION_LENGTH);
+        this.scanner = new RouteSectionScanner(section);
+    }
+
+    /**
+     * Liest eine Kantenliste aus einer Datei und erstellt daraus den Graphen eines neuen Fluchtwegenetzes.
+     * Es gelten dieselben Bedingungen wie beim Erstellen eines Fluchtwegenetzes über den add-Befehl.
+     * @param networkIdentifier Kennung des neuen Fluchtwegenetzes
+     * @param path Pfad der Datei
+     * @return Graph des neuen Fluchtwegenetzes
+     * @throws EscapeNetworkException falls die Datei nicht gelesen werden kann, ein Abschnitt ungültig ist oder
+     * das Fluchtwegenetz die Bedingungen an ein Fluchtwegenetz nicht erfüllt
+     */
+    public Graph importGraph(String networkIdentifier, Path path) throws EscapeNetworkException {
+        this.graph = new Graph(networkIdentifier, Set.of(), Set.of());
+        this.lineNumber = FIRST_LINE;
+        section.setLength(EMPTY_LENGTH);
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            ByteBuffer buffer = ByteBuffer.allocateDirect(CHUNK_SIZE);
+            while (channel.read(buffer) != END_OF_STREAM) {
+                buffer.flip();
+                while (buffer.hasRemaining()) {
+                    processByte(buffer.get() & BYTE_MASK);
+                }
+                buffer.clear();
+            }
+        } catch (IOException exception) {
+            throw new EscapeNetworkException(String.format(ErrorMessages.FILE_NOT_READABLE.toString(), path));
+        }
+        completeSection();
+
+        if (graph.getEdgeCount() < MINIMUM_EDGE_COUNT) {
+            throw new EscapeNetworkInputException(ErrorMessages.INVALID_NETWORK_SIZE.toString());
+        }
+        if (!graph.hasSource() || !graph.hasSink()) {
+            throw new EscapeNetworkInputException(ErrorMessages.INVALID_START_TARGET_NODE.toString());
+        }
+        Graph importedGraph = graph;
+        this.graph = null;
+        return importedGraph;
+    }
+
+    private void processByte(int value) throws EscapeNetworkInputException {
+        if (value > MAXIMUM_ASCII_VALUE) {
+            throw lineException(ErrorMessages.NON_ASCII_CHARACTER);
+        }
+        char character = (char) value;
+        if (character == SECTION_SEPARATOR || character == LINE_FEED || character == CARRIAGE_RETURN) {
+            completeSection();
+            if (character == LINE_FEED) {
+                lineNumber++;
+            }
+            return;
+        }
+        if (section.length() == MAXIMUM_SECTION_LENGTH) {
+            throw lineException(ErrorMessages.INVALID_FORMAT);
+        }
+        section.append(character);
+    }
+
+    /**
+     * Verarbeitet den bis hierhin gelesenen Abschnitt und fügt ihn dem Graphen hinzu.
+     * @throws EscapeNetworkInputException falls der Abschnitt ungültig ist
+     */
+    private void completeSection() throws EscapeNetworkInputException {
+        if (section.length() == EMPTY_LENGTH) {
+            return;
+        }
+        scanner.reset(section);
+        try {
+            scanner.nextSection();
+        } catch (EscapeNetworkInputException exception) {
+            throw new EscapeNetworkInputException(String.format(ErrorMessages.IMPORT_LINE_FAILED.toString(),
+                    lineNumber, exception.getMessage()));
+        }
+        Node source = new Node(scanner.getSourceIdentifier());
+        Node target = new Node(scanner.getTargetIdentifier());
+        Edge edge = new Edge(source, target, scanner.getCapacity());
+        section.setLength(EMPTY_LENGTH);
+
+        if (source.equals(target)) {
+            throw lineException(ErrorMessages.GRAPH_CONTAINS_LOOPS);
+        }
+        if (graph.containsEdge(edge.getInvertedEdge())) {
+            throw lineException(ErrorMessages.PARALLEL_OPPOSITE_EDGE);
+        }
+        if (graph.containsEdge(edge)) {
+            throw lineException(ErrorMessages.DUPLICATE_EDGE);
+        }
+        graph.addEdge(edge);
+    }
+
+    private EscapeNetworkInputException lineException(ErrorMessages errorMessage) {
+        return new EscapeNetworkInputException(String.format(ErrorMessages.IMPORT_LINE_FAILED.toString(),
+                lineNumber, errorMessage.toString()));
+    }
+}
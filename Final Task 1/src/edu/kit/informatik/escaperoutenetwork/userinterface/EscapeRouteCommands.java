@@ -24,6 +24,10 @@ public final class EscapeRouteCommands {
                 PrintCommand.PRINT_COMMAND_NAME, new PrintCommand(escapeRouteNetworkManager),
                 ListCommand.LIST_COMMAND_NAME, new ListCommand(escapeRouteNetworkManager),
                 FlowCommand.FLOW_COMMAND_NAME, new FlowCommand(escapeRouteNetworkManager),
+                FlowAllCommand.FLOW_ALL_COMMAND_NAME, new FlowAllCommand(escapeRouteNetworkManager),
+                IndexCommand.INDEX_COMMAND_NAME, new IndexCommand(escapeRouteNetworkManager),
+                ImportCommand.IMPORT_COMMAND_NAME, new ImportCommand(escapeRouteNetworkManager),
+                StatsCommand.STATS_COMMAND_NAME, new StatsCommand(escapeRouteNetworkManager),
                 QuitCommand.QUIT_COMMAND_NAME, new QuitCommand(session)
         );
     }
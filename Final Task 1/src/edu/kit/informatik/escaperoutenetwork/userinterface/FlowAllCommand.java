@@ -0,0 +1,74 @@
+package edu.kit.informatik.escaperoutenetwork.userinterface;
+
+import edu.kit.informatik.escaperoutenetwork.core.EscapeRouteCalculator;
+import edu.kit.informatik.escaperoutenetwork.core.EscapeRouteNetwork;
+import edu.kit.informatik.escaperoutenetwork.core.EscapeRouteNetworkManager;
+import edu.kit.informatik.escaperoutenetwork.core.MaxFlowEngineType;
+import edu.kit.informatik.escaperoutenetwork.core.Result;
+import edu.kit.informatik.escaperoutenetwork.exception.ErrorMessages;
+import edu.kit.informatik.escaperoutenetwork.exception.EscapeNetworkException;
+import edu.kit.informatik.escaperoutenetwork.exception.EscapeNetworkInputException;
+
+/**
+ * Modelliert den Befehl Flowall zum parallelen Berechnen des Maximalen Durchflusses aller gültigen
+ * Start-Zielknoten-Paare eines Fluchtwegenetzes.
+ * Anschließend werden, wie beim List-Befehl, alle berechneten maximalen Durchflüsse aufgelistet.
+ * Optional kann als zweites Argument der Name des Verfahrens angegeben werden, mit dem die maximalen Flüsse
+ * berechnet werden sollen. Andernfalls wird das Standardverfahren verwendet.
+ * @author Phil Gengenbach
+ * @version 1.0
+ */
+public final class FlowAllCommand extends Command {
+
+    /**
+     * Eindeutiger Name des Flowall-Befehls.
+     */
+    public static final String FLOW_ALL_COMMAND_NAME = "flowall";
+    private static final int ARGUMENT_LENGTH = 1;
+    private static final int MAXIMUM_ARGUMENT_LENGTH = 2;
+
+    private final EscapeRouteNetworkManager escapeRouteNetworkManager;
+
+    private EscapeRouteCalculator escapeRouteCalculator;
+    private MaxFlowEngineType engineType;
+
+    /**
+     * Erstellt eine neue Instanz eines Flowall-Befehls zur Berechnung aller maximalen Durchflüsse.
+     * @param escapeRouteNetworkManager Fluchtwegenetz-Verwaltung
+     */
+    public FlowAllCommand(EscapeRouteNetworkManager escapeRouteNetworkManager) {
+        super(MAXIMUM_ARGUMENT_LENGTH);
+        this.escapeRouteNetworkManager = escapeRouteNetworkManager;
+    }
+
+    @Override
+    public void parseCommandLine(String[] arguments) throws EscapeNetworkException {
+        if (arguments.length != ARGUMENT_LENGTH && arguments.length != getMaximumArgumentLength()) {
+            throw new EscapeNetworkInputException(ErrorMessages.LENGTH.toString());
+        }
+        if (!EscapeRouteNetwork.isValidIdentifier(arguments[0])) {
+            throw new EscapeNetworkInputException(ErrorMessages.INVALID_FORMAT.toString());
+        }
+        if (!escapeRouteNetworkManager.containsEscapeRouteNetworkWithIdentifier(arguments[0])) {
+            throw new EscapeNetworkException(ErrorMessages.NETWORK_DOES_NOT_EXIST.toString());
+        }
+
+        this.escapeRouteCalculator = escapeRouteNetworkManager.getEscapeRouteNetworkByIdentifier(arguments[0])
+                .getCalculator();
+        this.engineType = EscapeRouteCalculator.DEFAULT_ENGINE_TYPE;
+
+        if (arguments.length == getMaximumArgumentLength()) {
+            this.engineType = MaxFlowEngineType.fromName(arguments[ARGUMENT_LENGTH]);
+            if (engineType == null) {
+                throw new EscapeNetworkInputException(ErrorMessages.ENGINE_DOES_NOT_EXIST.toString());
+            }
+        }
+    }
+
+    @Override
+    public Result execute() {
+        escapeRouteCalculator.calculateAllMaximumFlows(engineType);
+        return new Result(Result.ResultType.SUCCESS, escapeRouteCalculator::writeMaximumFlows);
+    }
+
+}
@@ -3,6 +3,7 @@ package edu.kit.informatik.escaperoutenetwork.userinterface;
 import edu.kit.informatik.escaperoutenetwork.core.EscapeRouteCalculator;
 import edu.kit.informatik.escaperoutenetwork.core.EscapeRouteNetwork;
 import edu.kit.informatik.escaperoutenetwork.core.EscapeRouteNetworkManager;
+import edu.kit.informatik.escaperoutenetwork.core.MaxFlowEngineType;
 import edu.kit.informatik.escaperoutenetwork.core.Result;
 import edu.kit.informatik.escaperoutenetwork.exception.ErrorMessages;
 import edu.kit.informatik.escaperoutenetwork.exception.EscapeNetworkException;
@@ -12,6 +13,8 @@ import edu.kit.informatik.escaperoutenetwork.graph.Node;
 
 /**
  * Modelliert den Befehl Flow zum Berechnen des Maximalen Durchflusses innerhalb eines Fluchtwegenetzes.
+ * Optional kann als viertes Argument der Name des Verfahrens angegeben werden, mit dem der maximale Fluss
+ * berechnet werden soll. Andernfalls wird das Standardverfahren verwendet.
  * @author Phil Gengenbach
  * @version 1.0
  */
@@ -22,29 +25,31 @@ public final class FlowCommand extends Command {
      */
     public static final String FLOW_COMMAND_NAME = "flow";
     private static final int ARGUMENT_LENGTH =  3;
+    private static final int MAXIMUM_ARGUMENT_LENGTH = 4;
 
     private final EscapeRouteNetworkManager escapeRouteNetworkManager;
 
     private EscapeRouteCalculator escapeRouteCalculator;
     private Node startNode;
     private Node endNode;
+    private MaxFlowEngineType engineType;
 
     /**
      * Erstellt eine neue Instanz eines Flow-Befehls zur Berechnung des maximalen Durchflusses.
      * @param escapeRouteNetworkManager Fluchtwegenetz-Verwaltung
      */
     public FlowCommand(EscapeRouteNetworkManager escapeRouteNetworkManager) {
-        super(ARGUMENT_LENGTH);
+        super(MAXIMUM_ARGUMENT_LENGTH);
         this.escapeRouteNetworkManager = escapeRouteNetworkManager;
     }
 
     @Override
     public void parseCommandLine(String[] arguments) throws EscapeNetworkException {
-        if (arguments.length != ARGUMENT_LENGTH) {
+        if (arguments.length != ARGUMENT_LENGTH && arguments.length != getMaximumArgumentLength()) {
             throw new EscapeNetworkInputException(ErrorMessages.LENGTH.toString());
         }
-        if (!arguments[0].matches(EscapeRouteNetwork.IDENTIFIER_REGEX) || !arguments[1].matches(Node.IDENTIFIER_REGEX)
-                || !arguments[2].matches(Node.IDENTIFIER_REGEX)) {
+        if (!EscapeRouteNetwork.isValidIdentifier(arguments[0]) || !Node.isValidIdentifier(arguments[1])
+                || !Node.isValidIdentifier(arguments[2])) {
             throw new EscapeNetworkInputException(ErrorMessages.INVALID_FORMAT.toString());
         }
 
@@ -58,6 +63,14 @@ public final class FlowCommand extends Command {
                 getEscapeRouteNetworkByIdentifier(arguments[0]);
         Graph escapeRouteGraph = escapeRouteNetwork.getDirectedGraph();
         this.escapeRouteCalculator = escapeRouteNetwork.getCalculator();
+        this.engineType = EscapeRouteCalculator.DEFAULT_ENGINE_TYPE;
+
+        if (arguments.length == getMaximumArgumentLength()) {
+            this.engineType = MaxFlowEngineType.fromName(arguments[ARGUMENT_LENGTH]);
+            if (engineType == null) {
+                throw new EscapeNetworkInputException(ErrorMessages.ENGINE_DOES_NOT_EXIST.toString());
+            }
+        }
 
         if (startNode.equals(endNode)) {
             throw new EscapeNetworkInputException(ErrorMessages.INVALID_START_TARGET_NODE.toString());
@@ -72,7 +85,7 @@ public final class FlowCommand extends Command {
 
     @Override
     public Result execute() {
-        long maximumFlow = escapeRouteCalculator.calculateMaximumFlow(startNode, endNode);
+        long maximumFlow = escapeRouteCalculator.calculateMaximumFlow(startNode, endNode, engineType);
         return new Result(Result.ResultType.SUCCESS, String.valueOf(maximumFlow));
     }
 
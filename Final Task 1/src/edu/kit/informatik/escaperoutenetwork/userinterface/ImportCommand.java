@@ -0,0 +1,84 @@
+package edu.kit.informatik.escaperoutenetwork.userinterface;
+
+import edu.kit.informatik.escaperoutenetwork.core.EscapeRouteNetwork;
+import edu.kit.informatik.escaperoutenetwork.core.EscapeRouteNetworkManager;
+import edu.kit.informatik.escaperoutenetwork.core.OutputStrings;
+import edu.kit.informatik.escaperoutenetwork.core.Result;
+import edu.kit.informatik.escaperoutenetwork.exception.ErrorMessages;
+import edu.kit.informatik.escaperoutenetwork.exception.EscapeNetworkException;
+import edu.kit.informatik.escaperoutenetwork.exception.EscapeNetworkInputException;
+import edu.kit.informatik.escaperoutenetwork.graph.Graph;
+
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+
+/**
+ * Modelliert den Import-Befehl, welcher ein neues Fluchtwegenetz aus einer Datei mit einer Kantenliste erstellt.
+ * Die Datei wird dabei über einen {@link EdgeListImporter} blockweise gelesen, ohne ihren Inhalt vollständig
+ * in den Speicher zu laden. Beim Verarbeiten der Befehlszeile werden lediglich die Argumente überprüft, die Datei
+ * wird erst beim Ausführen des Befehls gelesen.
+ * @author Phil Gengenbach
+ * @version 1.0
+ */
+public final class ImportCommand extends Command {
+
+    /**
+     * Eindeutiger Name des Import-Befehls.
+     */
+    public static final String IMPORT_COMMAND_NAME = "import";
+    private static final int MAXIMUM_ARGUMENT_LENGTH = 2;
+
+    private final EscapeRouteNetworkManager escapeRouteNetworkManager;
+    private final EdgeListImporter importer;
+
+    private String uniqueEscapeIdentifier;
+    private Path path;
+
+    /**
+     * Erstellt eine neue Instanz des Import-Befehls.
+     * @param escapeRouteNetworkManager Fluchtwegenetz-Verwaltung
+     */
+    public ImportCommand(EscapeRouteNetworkManager escapeRouteNetworkManager) {
+        super(MAXIMUM_ARGUMENT_LENGTH);
+        this.escapeRouteNetworkManager = escapeRouteNetworkManager;
+        this.importer = new EdgeListImporter();
+    }
+
+    @Override
+    public void parseCommandLine(String[] arguments) throws EscapeNetworkException {
+        this.path = null;
+        if (arguments.length != getMaximumArgumentLength()) {
+            throw new EscapeNetworkInputException(ErrorMessages.LENGTH.toString());
+        }
+
+        if (!EscapeRouteNetwork.isValidIdentifier(arguments[0])) {
+            throw new EscapeNetworkInputException(ErrorMessages.INVALID_FORMAT.toString());
+        }
+
+        if (escapeRouteNetworkManager.containsEscapeRouteNetworkWithIdentifier(arguments[0])) {
+            throw new EscapeNetworkException(ErrorMessages.NETWORK_ALREADY_EXISTS.toString());
+        }
+
+        try {
+            this.path = Path.of(arguments[1]);
+        } catch (InvalidPathException invalidPathException) {
+            throw new EscapeNetworkException(String.format(ErrorMessages.FILE_NOT_READABLE.toString(),
+                    arguments[1]));
+        }
+        this.uniqueEscapeIdentifier = arguments[0];
+    }
+
+    @Override
+    public Result execute() {
+        Graph importedGraph;
+        try {
+            importedGraph = importer.importGraph(uniqueEscapeIdentifier, path);
+        } catch (EscapeNetworkException escapeNetworkException) {
+            return new Result(Result.ResultType.FAILURE, escapeNetworkException.getMessage());
+        }
+        EscapeRouteNetwork escapeRouteNetwork = new EscapeRouteNetwork(uniqueEscapeIdentifier, importedGraph);
+        escapeRouteNetworkManager.addEscapeRouteNetwork(escapeRouteNetwork);
+        return new Result(Result.ResultType.SUCCESS, String.format(OutputStrings.IMPORTED_NETWORK.toString(),
+                uniqueEscapeIdentifier, importedGraph.getEdgeCount()));
+    }
+}
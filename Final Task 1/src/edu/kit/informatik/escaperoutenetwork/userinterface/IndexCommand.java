@@ -0,0 +1,67 @@
+package edu.kit.informatik.escaperoutenetwork.userinterface;
+
+import edu.kit.informatik.escaperoutenetwork.core.EscapeRouteCalculator;
+import edu.kit.informatik.escaperoutenetwork.core.EscapeRouteNetwork;
+import edu.kit.informatik.escaperoutenetwork.core.EscapeRouteNetworkManager;
+import edu.kit.informatik.escaperoutenetwork.core.OutputStrings;
+import edu.kit.informatik.escaperoutenetwork.core.Result;
+import edu.kit.informatik.escaperoutenetwork.exception.ErrorMessages;
+import edu.kit.informatik.escaperoutenetwork.exception.EscapeNetworkException;
+import edu.kit.informatik.escaperoutenetwork.exception.EscapeNetworkInputException;
+
+/**
+ * Modelliert den Index-Befehl, welcher die maximalen Flüsse aller gültigen Start-Zielknoten-Paare eines
+ * Fluchtwegenetzes über denselben parallelen Weg wie der flowall-Befehl vorberechnet und lediglich die Anzahl
+ * der Paare ausgibt. Bis zur nächsten Veränderung des Fluchtwegenetzes werden alle Flow-Anfragen und die
+ * Ausgabe aller Flüsse direkt aus dem Zwischenspeicher beantwortet.
+ * @author Phil Gengenbach
+ * @version 1.0
+ */
+public final class IndexCommand extends Command {
+
+    /**
+     * Eindeutiger Name des Index-Befehls.
+     */
+    public static final String INDEX_COMMAND_NAME = "index";
+    private static final int MAXIMUM_ARGUMENT_LENGTH = 1;
+
+    private final EscapeRouteNetworkManager escapeRouteNetworkManager;
+
+    private String uniqueEscapeIdentifier;
+
+    /**
+     * Erstellt eine neue Instanz des Index-Befehls.
+     * @param escapeRouteNetworkManager Fluchtwegenetz-Verwaltung
+     */
+    public IndexCommand(EscapeRouteNetworkManager escapeRouteNetworkManager) {
+        super(MAXIMUM_ARGUMENT_LENGTH);
+        this.escapeRouteNetworkManager = escapeRouteNetworkManager;
+    }
+
+    @Override
+    public void parseCommandLine(String[] arguments) throws EscapeNetworkException {
+        if (arguments.length != getMaximumArgumentLength()) {
+            throw new EscapeNetworkInputException(ErrorMessages.LENGTH.toString());
+        }
+
+        if (!EscapeRouteNetwork.isValidIdentifier(arguments[0])) {
+            throw new EscapeNetworkInputException(ErrorMessages.INVALID_FORMAT.toString());
+        }
+
+        if (!escapeRouteNetworkManager.containsEscapeRouteNetworkWithIdentifier(arguments[0])) {
+            throw new EscapeNetworkException(ErrorMessages.NETWORK_DOES_NOT_EXIST.toString());
+        }
+
+        this.uniqueEscapeIdentifier = arguments[0];
+    }
+
+    @Override
+    public Result execute() {
+        EscapeRouteNetwork escapeRouteNetwork = escapeRouteNetworkManager
+                .getEscapeRouteNetworkByIdentifier(uniqueEscapeIdentifier);
+        EscapeRouteCalculator calculator = escapeRouteNetwork.getCalculator();
+        int indexedPairCount = calculator.calculateAllMaximumFlows(EscapeRouteCalculator.DEFAULT_ENGINE_TYPE);
+        return new Result(Result.ResultType.SUCCESS, String.format(OutputStrings.INDEXED_NETWORK.toString(),
+                indexedPairCount, uniqueEscapeIdentifier));
+    }
+}
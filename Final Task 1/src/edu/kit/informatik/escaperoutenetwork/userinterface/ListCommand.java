@@ -46,7 +46,7 @@ public final class ListCommand extends Command {
         }
 
         if (arguments.length == getMaximumArgumentLength()) {
-            if (!arguments[0].matches(EscapeRouteNetwork.IDENTIFIER_REGEX)) {
+            if (!EscapeRouteNetwork.isValidIdentifier(arguments[0])) {
                 throw new EscapeNetworkInputException(ErrorMessages.INVALID_IDENTIFIER.toString());
             }
 
@@ -60,11 +60,10 @@ public final class ListCommand extends Command {
     @Override
     public Result execute() {
         if (uniqueEscapeIdentifier == null) {
-            escapeRouteNetworkManager.sortEscapeRouteNetworks();
-            return new Result(Result.ResultType.SUCCESS, escapeRouteNetworkManager.toString());
+            return new Result(Result.ResultType.SUCCESS, escapeRouteNetworkManager::writeEscapeRouteNetworks);
         }
         EscapeRouteNetwork escapeRouteNetwork = escapeRouteNetworkManager.
                 getEscapeRouteNetworkByIdentifier(uniqueEscapeIdentifier);
-        return new Result(Result.ResultType.SUCCESS, escapeRouteNetwork.getCalculator().getMaximumFlowsString());
+        return new Result(Result.ResultType.SUCCESS, escapeRouteNetwork.getCalculator()::writeMaximumFlows);
     }
 }
@@ -2,13 +2,18 @@ package edu.kit.informatik.escaperoutenetwork.userinterface;
 
 import edu.kit.informatik.escaperoutenetwork.core.EscapeRouteNetwork;
 import edu.kit.informatik.escaperoutenetwork.core.EscapeRouteNetworkManager;
+import edu.kit.informatik.escaperoutenetwork.core.LineChunkWriter;
 import edu.kit.informatik.escaperoutenetwork.core.Result;
 import edu.kit.informatik.escaperoutenetwork.exception.ErrorMessages;
 import edu.kit.informatik.escaperoutenetwork.exception.EscapeNetworkException;
 import edu.kit.informatik.escaperoutenetwork.exception.EscapeNetworkInputException;
+import edu.kit.informatik.escaperoutenetwork.graph.Edge;
+import edu.kit.informatik.escaperoutenetwork.graph.Graph;
 
 /**
  * Modelliert einen print-Befehls zur Ausgabe aller Kanten eines Fluchtwegenetzes.
+ * Die bereits sortierten Kanten werden dabei abschnittsweise ausgegeben, ohne vorher eine Zeichenkette aller
+ * Kanten aufzubauen.
  * @author Phil Gengenbach
  * @version 1.0
  */
@@ -39,7 +44,7 @@ public final class PrintCommand extends Command {
             throw new EscapeNetworkInputException(ErrorMessages.LENGTH.toString());
         }
 
-        if (!arguments[0].matches(EscapeRouteNetwork.IDENTIFIER_REGEX)) {
+        if (!EscapeRouteNetwork.isValidIdentifier(arguments[0])) {
             throw new EscapeNetworkInputException(ErrorMessages.INVALID_IDENTIFIER.toString());
         }
 
@@ -55,6 +60,13 @@ public final class PrintCommand extends Command {
     public Result execute() {
         EscapeRouteNetwork escapeRouteNetwork = escapeRouteNetworkManager
                 .getEscapeRouteNetworkByIdentifier(uniqueEscapeIdentifier);
-        return new Result(Result.ResultType.SUCCESS, escapeRouteNetwork.getDirectedGraph().getEdgesString());
+        Graph graph = escapeRouteNetwork.getDirectedGraph();
+        return new Result(Result.ResultType.SUCCESS, output -> {
+            LineChunkWriter writer = new LineChunkWriter(output);
+            for (Edge edge : graph.getSortedEdges()) {
+                edge.appendTo(writer.nextLine());
+            }
+            writer.flush();
+        });
     }
 }
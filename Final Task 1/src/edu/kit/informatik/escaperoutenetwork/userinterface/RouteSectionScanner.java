@@ -0,0 +1,167 @@
+package edu.kit.informatik.escaperoutenetwork.userinterface;
+
+import edu.kit.informatik.escaperoutenetwork.exception.ErrorMessages;
+import edu.kit.informatik.escaperoutenetwork.exception.EscapeNetworkInputException;
+import edu.kit.informatik.escaperoutenetwork.graph.Node;
+
+/**
+ * Modelliert einen Scanner, welcher eine durch Semikolons getrennte Folge von Fluchtwegeabschnitten der Form
+ * [Startknoten][Kapazität][Zielknoten] in einem einzigen Durchlauf zeichenweise einliest.
+ * Ein Fluchtwegeabschnitt muss dabei dem regulären Ausdruck {@code [a-z]{1,6}0*[1-9][0-9]*[a-z]{1,6}} entsprechen,
+ * es werden jedoch weder reguläre Ausdrücke noch Teilzeichenketten verwendet: Die Kennungen der Knoten werden
+ * direkt gepackt und die Kapazität direkt als Ganzzahl berechnet.
+ * @author Phil Gengenbach
+ * @version 1.0
+ */
+public final class RouteSectionScanner {
+
+    private static final char SECTION_SEPARATOR = ';';
+    private static final char ZERO_DIGIT = '0';
+    private static final char NINE_DIGIT = '9';
+    private static final int DECIMAL_RADIX = 10;
+    private static final int START_INDEX = 0;
+    private static final int NEXT_INDEX = 1;
+    private static final int MINIMUM_IDENTIFIER_LENGTH = 1;
+    private static final long INITIAL_CAPACITY = 0;
+    private static final long MAXIMUM_CAPACITY = Integer.MAX_VALUE;
+
+    private CharSequence input;
+    private int position;
+    private boolean exhausted;
+
+    private long sourceIdentifier;
+    private long targetIdentifier;
+    private long capacity;
+
+    /**
+     * Erstellt einen neuen Scanner für eine gegebene Folge von Fluchtwegeabschnitten.
+     * @param input durch Semikolons getrennte Fluchtwegeabschnitte
+     */
+    public RouteSectionScanner(CharSequence input) {
+        reset(input);
+    }
+
+    /**
+     * Setzt den Scanner auf eine neue Folge von Fluchtwegeabschnitten zurück, sodass er für weitere Eingaben
+     * wiederverwendet werden kann.
+     * @param input durch Semikolons getrennte Fluchtwegeabschnitte
+     */
+    public void reset(CharSequence input) {
+        this.input = input;
+        this.position = START_INDEX;
+        this.exhausted = false;
+    }
+
+    /**
+     * Überprüft, ob noch ein weiterer Fluchtwegeabschnitt eingelesen werden kann.
+     * Eine leere Eingabe sowie ein abschließendes Semikolon gelten dabei als leerer und damit ungültiger
+     * Fluchtwegeabschnitt.
+     * @return ob noch ein weiterer Fluchtwegeabschnitt folgt
+     */
+    public boolean hasNextSection() {
+        return !exhausted;
+    }
+
+    /**
+     * Überprüft, ob die Eingabe aus mehr als einem Fluchtwegeabschnitt besteht.
+     * @return ob die Eingabe ein Semikolon enthält
+     */
+    public boolean hasMultipleSections() {
+        for (int i = START_INDEX; i < input.length(); i++) {
+            if (input.charAt(i) == SECTION_SEPARATOR) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Liest den nächsten Fluchtwegeabschnitt ein. Anschließend können gepackte Kennungen und Kapazität über
+     * {@link #getSourceIdentifier()}, {@link #getTargetIdentifier()} und {@link #getCapacity()} abgefragt werden.
+     * @throws EscapeNetworkInputException falls der Fluchtwegeabschnitt nicht das notwendige Format besitzt
+     * oder die Kapazität keine positive 32-Bit-Ganzzahl ist
+     */
+    public void nextSection() throws EscapeNetworkInputException {
+        int sourceEnd = skipLetters(position);
+        int capacityEnd = skipDigits(sourceEnd);
+        int targetEnd = skipLetters(capacityEnd);
+        if (!isIdentifierLength(sourceEnd - position) || capacityEnd == sourceEnd
+                || !isIdentifierLength(targetEnd - capacityEnd)
+                || targetEnd < input.length() && input.charAt(targetEnd) != SECTION_SEPARATOR) {
+            throw new EscapeNetworkInputException(ErrorMessages.INVALID_FORMAT.toString());
+        }
+        this.capacity = scanCapacity(sourceEnd, capacityEnd);
+        this.sourceIdentifier = Node.pack(input, position, sourceEnd);
+        this.targetIdentifier = Node.pack(input, capacityEnd, targetEnd);
+        this.exhausted = targetEnd == input.length();
+        this.position = targetEnd + NEXT_INDEX;
+    }
+
+    /**
+     * Gibt die gepackte Kennung des Startknotens des zuletzt eingelesenen Fluchtwegeabschnitts zurück.
+     * @return gepackte Kennung des Startknotens
+     */
+    public long getSourceIdentifier() {
+        return sourceIdentifier;
+    }
+
+    /**
+     * Gibt die gepackte Kennung des Zielknotens des zuletzt eingelesenen Fluchtwegeabschnitts zurück.
+     * @return gepackte Kennung des Zielknotens
+     */
+    public long getTargetIdentifier() {
+        return targetIdentifier;
+    }
+
+    /**
+     * Gibt die Kapazität des zuletzt eingelesenen Fluchtwegeabschnitts zurück.
+     * @return Kapazität
+     */
+    public long getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Berechnet die Kapazität aus den Ziffern zwischen zwei Indizes. Führende Nullen sind erlaubt, es muss jedoch
+     * mindestens eine von 0 verschiedene Ziffer enthalten sein.
+     * @param start Index der ersten Ziffer
+     * @param end Index hinter der letzten Ziffer
+     * @return Kapazität
+     * @throws EscapeNetworkInputException falls alle Ziffern 0 sind oder die Kapazität zu groß ist
+     */
+    private long scanCapacity(int start, int end) throws EscapeNetworkInputException {
+        long value = INITIAL_CAPACITY;
+        boolean tooLarge = false;
+        for (int i = start; i < end && !tooLarge; i++) {
+            value = value * DECIMAL_RADIX + input.charAt(i) - ZERO_DIGIT;
+            tooLarge = value > MAXIMUM_CAPACITY;
+        }
+        if (value == INITIAL_CAPACITY) {
+            throw new EscapeNetworkInputException(ErrorMessages.INVALID_FORMAT.toString());
+        }
+        if (tooLarge) {
+            throw new EscapeNetworkInputException(ErrorMessages.INVALID_CAPACITY.toString());
+        }
+        return value;
+    }
+
+    private int skipLetters(int start) {
+        int end = start;
+        while (end < input.length() && Node.isIdentifierLetter(input.charAt(end))) {
+            end++;
+        }
+        return end;
+    }
+
+    private int skipDigits(int start) {
+        int end = start;
+        while (end < input.length() && input.charAt(end) >= ZERO_DIGIT && input.charAt(end) <= NINE_DIGIT) {
+            end++;
+        }
+        return end;
+    }
+
+    private static boolean isIdentifierLength(int length) {
+        return length >= MINIMUM_IDENTIFIER_LENGTH && length <= Node.MAXIMUM_IDENTIFIER_LENGTH;
+    }
+}
@@ -3,6 +3,8 @@ package edu.kit.informatik.escaperoutenetwork.userinterface;
 import edu.kit.informatik.Terminal;
 import edu.kit.informatik.escaperoutenetwork.core.EscapeRouteNetworkManager;
 import edu.kit.informatik.escaperoutenetwork.core.Result;
+import edu.kit.informatik.escaperoutenetwork.event.CommandEvent;
+import edu.kit.informatik.escaperoutenetwork.event.CommandOutputEvent;
 import edu.kit.informatik.escaperoutenetwork.exception.ErrorMessages;
 import edu.kit.informatik.escaperoutenetwork.exception.EscapeNetworkException;
 
@@ -10,6 +12,10 @@ import edu.kit.informatik.escaperoutenetwork.exception.EscapeNetworkException;
  * Verarbeitung von Benutzereingaben und -ausgaben. Hier findet außerdem die Fehlerbehandlung statt.
  * Erlaubt die Ausführung von {@link Command}.
  * Eine laufende Sitzung kann gestoppt werden.
+ * Einzelne Eingabezeilen können über {@link #executeLine(String)} auch ohne Ausgabe ausgeführt werden, etwa
+ * durch eine {@link BatchSession}.
+ * Das Einlesen und die Ausführung jedes Befehls wird als {@link CommandEvent} für den Java Flight Recorder
+ * aufgezeichnet, die Ausgabe abschnittsweise erzeugter Nachrichten als {@link CommandOutputEvent}.
  * @author Phil Gengenbach
  * @version 1.0
  */
@@ -28,7 +34,15 @@ public final class Session {
      * Erstellt eine neue Sitzung zur Befehlsausführung.
      */
     public Session() {
-        this.escapeRouteNetworkManager = new EscapeRouteNetworkManager();
+        this(new EscapeRouteNetworkManager());
+    }
+
+    /**
+     * Erstellt eine neue Sitzung zur Befehlsausführung, welche eine gegebene Fluchtwegenetz-Verwaltung verwendet.
+     * @param escapeRouteNetworkManager Fluchtwegenetz-Verwaltung
+     */
+    public Session(EscapeRouteNetworkManager escapeRouteNetworkManager) {
+        this.escapeRouteNetworkManager = escapeRouteNetworkManager;
         this.escapeRouteCommands = new EscapeRouteCommands(escapeRouteNetworkManager, this);
     }
 
@@ -38,41 +52,68 @@ public final class Session {
     public void run() {
         while (running) {
             String input = Terminal.readLine();
-            String[] lineContent = input.split(SPACE_SAPARATOR, COMMAND_LINE_LIMITER);
-
-            String commandName = lineContent[0];
-            String[] commandArguments;
-
-            if (lineContent.length >= COMMAND_LINE_LIMITER) {
-                commandArguments = lineContent[1].split(SPACE_SAPARATOR, ARGUMENT_LIMITER);
-            } else {
-                commandArguments = new String[0];
-            }
-
-            if (escapeRouteCommands.get().containsKey(commandName)) {
-                Command command = escapeRouteCommands.get().get(commandName);
-                try {
-                    command.parseCommandLine(commandArguments);
-                    executeCommand(command);
-                } catch (EscapeNetworkException escapeNetworkException) {
-                    Terminal.printError(escapeNetworkException.getMessage());
-                }
-            } else {
-                Terminal.printError(ErrorMessages.COMMAND_DOES_NOT_EXIST.toString());
-            }
+            printResult(executeLine(input));
         }
     }
 
-    private void executeCommand(final Command command) {
-        final Result result = command.execute();
+    /**
+     * Führt den Befehl einer gegebenen Eingabezeile aus, ohne das Ergebnis auszugeben.
+     * Existiert der Befehl nicht oder schlägt seine Ausführung fehl, so wird ein nicht erfolgreiches Ergebnis
+     * mit der dazugehörigen Fehlermeldung zurückgegeben.
+     * @param input Eingabezeile
+     * @return Ergebnis der Befehlsausführung
+     */
+    public Result executeLine(String input) {
+        String[] lineContent = input.split(SPACE_SAPARATOR, COMMAND_LINE_LIMITER);
+
+        String commandName = lineContent[0];
+        String[] commandArguments;
+        int argumentSize;
+
+        if (lineContent.length >= COMMAND_LINE_LIMITER) {
+            commandArguments = lineContent[1].split(SPACE_SAPARATOR, ARGUMENT_LIMITER);
+            argumentSize = lineContent[1].length();
+        } else {
+            commandArguments = new String[0];
+            argumentSize = 0;
+        }
+
+        if (!escapeRouteCommands.get().containsKey(commandName)) {
+            return new Result(Result.ResultType.FAILURE, ErrorMessages.COMMAND_DOES_NOT_EXIST.toString());
+        }
+        Command command = escapeRouteCommands.get().get(commandName);
+        CommandEvent event = new CommandEvent(commandName, commandArguments, argumentSize);
+        event.begin();
+        Result result = executeCommand(command, commandArguments);
+        event.recordResult(result);
+        event.commit();
+        return CommandOutputEvent.observe(commandName, event.getNetworkIdentifier(), result);
+    }
+
+    private static Result executeCommand(Command command, String[] commandArguments) {
+        try {
+            command.parseCommandLine(commandArguments);
+            return command.execute();
+        } catch (EscapeNetworkException escapeNetworkException) {
+            return new Result(Result.ResultType.FAILURE, escapeNetworkException.getMessage());
+        }
+    }
+
+    /**
+     * Gibt das Ergebnis einer Befehlsausführung aus. Nachrichten erfolgreicher Befehlsausführungen werden dabei
+     * abschnittsweise ausgegeben, Nachrichten nicht erfolgreicher Befehlsausführungen als Fehlermeldung.
+     * @param result Ergebnis der Befehlsausführung
+     */
+    public static void printResult(final Result result) {
         switch (result.getType()) {
             case SUCCESS:
-                if (result.getMessage() != null) {
-                    Terminal.printLine(result.getMessage());
+                if (result.hasMessage()) {
+                    result.writeMessageTo(Terminal::print);
+                    Terminal.printLine();
                 }
                 break;
             case FAILURE:
-                if (result.getMessage() != null) {
+                if (result.hasMessage()) {
                     Terminal.printError(result.getMessage());
                 }
                 break;
@@ -81,6 +122,14 @@ public final class Session {
         }
     }
 
+    /**
+     * Überprüft, ob die Sitzung noch läuft oder bereits gestoppt wurde.
+     * @return ob die Sitzung noch läuft
+     */
+    public boolean isRunning() {
+        return running;
+    }
+
     /**
      * Stoppt das Programm.
      */
@@ -0,0 +1,69 @@
+package edu.kit.informatik.escaperoutenetwork.userinterface;
+
+import edu.kit.informatik.escaperoutenetwork.core.EscapeRouteNetwork;
+import edu.kit.informatik.escaperoutenetwork.core.EscapeRouteNetworkManager;
+import edu.kit.informatik.escaperoutenetwork.core.FlowStatistics;
+import edu.kit.informatik.escaperoutenetwork.core.Result;
+import edu.kit.informatik.escaperoutenetwork.exception.ErrorMessages;
+import edu.kit.informatik.escaperoutenetwork.exception.EscapeNetworkException;
+import edu.kit.informatik.escaperoutenetwork.exception.EscapeNetworkInputException;
+
+/**
+ * Modelliert den Stats-Befehl.
+ * Wird der Befehl ohne Parameter angegeben, so werden die {@link FlowStatistics} aller Fluchtwegenetze mit
+ * deren Kennung aufgelistet. Wenn noch kein Fluchtwegenetz hinzugefügt wurde, so wird {@code EMPTY} ausgegeben.
+ * Wird als Parameter eine eindeutige Kennung eines Fluchtwegenetzes angegeben, so werden nur die Messwerte
+ * dieses Fluchtwegenetzes ausgegeben.
+ * @author Phil Gengenbach
+ * @version 1.0
+ */
+public final class StatsCommand extends Command {
+
+    /**
+     * Eindeutiger Name des Stats-Befehls.
+     */
+    public static final String STATS_COMMAND_NAME = "stats";
+    private static final int MAXIMUM_ARGUMENT_LENGTH = 1;
+
+    private final EscapeRouteNetworkManager escapeRouteNetworkManager;
+
+    private String uniqueEscapeIdentifier;
+
+    /**
+     * Erstellt eine neue Instanz des Stats-Befehls.
+     * @param escapeRouteNetworkManager Verwaltung aller Fluchtwegenetze
+     */
+    public StatsCommand(EscapeRouteNetworkManager escapeRouteNetworkManager) {
+        super(MAXIMUM_ARGUMENT_LENGTH);
+        this.escapeRouteNetworkManager = escapeRouteNetworkManager;
+    }
+
+    @Override
+    public void parseCommandLine(String[] arguments) throws EscapeNetworkException {
+        this.uniqueEscapeIdentifier = null;
+        if (arguments.length > getMaximumArgumentLength()) {
+            throw new EscapeNetworkInputException(ErrorMessages.LENGTH.toString());
+        }
+
+        if (arguments.length == getMaximumArgumentLength()) {
+            if (!EscapeRouteNetwork.isValidIdentifier(arguments[0])) {
+                throw new EscapeNetworkInputException(ErrorMessages.INVALID_FORMAT.toString());
+            }
+
+            if (!escapeRouteNetworkManager.containsEscapeRouteNetworkWithIdentifier(arguments[0])) {
+                throw new EscapeNetworkException(ErrorMessages.NETWORK_DOES_NOT_EXIST.toString());
+            }
+            this.uniqueEscapeIdentifier = arguments[0];
+        }
+    }
+
+    @Override
+    public Result execute() {
+        if (uniqueEscapeIdentifier == null) {
+            return new Result(Result.ResultType.SUCCESS, escapeRouteNetworkManager::writeFlowStatistics);
+        }
+        FlowStatistics flowStatistics = escapeRouteNetworkManager.getEscapeRouteNetworkByIdentifier(
+                uniqueEscapeIdentifier).getCalculator().getFlowStatistics();
+        return new Result(Result.ResultType.SUCCESS, output -> output.accept(flowStatistics.toString()));
+    }
+}
@@ -0,0 +1,181 @@
+package edu.kit.informatik.escaperoutenetwork.core;
+
+import edu.kit.informatik.escaperoutenetwork.generator.GraphFamily;
+import edu.kit.informatik.escaperoutenetwork.generator.GraphGenerator;
+import edu.kit.informatik.escaperoutenetwork.graph.Edge;
+import edu.kit.informatik.escaperoutenetwork.graph.FlowNetwork;
+import edu.kit.informatik.escaperoutenetwork.graph.Graph;
+import edu.kit.informatik.escaperoutenetwork.graph.Node;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Testet die erneute Berechnung maximaler Flüsse nach dem Hinzufügen oder Überschreiben einer Kante, welche auf
+ * dem zuvor berechneten Fluss aufsetzt. Jedes Ergebnis wird dazu mit einer Berechnung auf einem neu erstellten
+ * Fluchtwegenetz ohne beibehaltene Flüsse verglichen.
+ * @author Phil Gengenbach
+ * @version 1.0
+ */
+public class EscapeRouteCalculatorTest {
+
+    private static final String NETWORK_IDENTIFIER = "TEST";
+    private static final String COLD_NETWORK_IDENTIFIER = "COLD";
+    private static final Node NODE_A = new Node("a");
+    private static final Node NODE_B = new Node("b");
+    private static final Node NODE_C = new Node("c");
+    private static final Node NODE_D = new Node("d");
+
+    /**
+     * Testet, dass nach dem Hinzufügen einer Kante derselbe Fluss wie bei einer kalten Berechnung entsteht.
+     */
+    @Test
+    public void testQueryAfterEdgeAddition() {
+        for (MaxFlowEngineType engineType : MaxFlowEngineType.values()) {
+            Graph graph = createExampleGraph();
+            EscapeRouteCalculator calculator = new EscapeRouteNetwork(NETWORK_IDENTIFIER, graph).getCalculator();
+            assertEquals(6, calculator.calculateMaximumFlow(NODE_A, NODE_C, engineType));
+
+            addEdge(graph, calculator, new Edge(NODE_A, NODE_C, 4));
+            long warmFlow = calculator.calculateMaximumFlow(NODE_A, NODE_C, engineType);
+            assertEquals(10, warmFlow, engineType.toString());
+            assertEquals(calculateColdFlow(graph, NODE_A, NODE_C, engineType), warmFlow, engineType.toString());
+        }
+    }
+
+    /**
+     * Testet wiederholte Anfragen nach dem Hinzufügen zufälliger Kanten zu erzeugten Netzen aller Graphfamilien.
+     */
+    @Test
+    public void testRepeatedQueriesAfterRandomEdgeAdditions() {
+        for (GraphFamily family : GraphFamily.values()) {
+            List<Edge> edges = new GraphGenerator(family.ordinal()).generate(family, 200);
+            Graph graph = new Graph(NETWORK_IDENTIFIER, new HashSet<>(edges), new HashSet<>());
+            EscapeRouteCalculator calculator = new EscapeRouteNetwork(NETWORK_IDENTIFIER, graph).getCalculator();
+            Node source = new Node(GraphGenerator.toIdentifier(0));
+            Node sink = new Node(GraphGenerator.toIdentifier(graph.getNodeCount() - 1));
+            Random random = new Random(family.ordinal());
+
+            for (int addition = 0; addition < 10; addition++) {
+                calculator.calculateMaximumFlow(source, sink);
+                //Kanten vom kleineren zum größeren Index erzeugen weder Schleifen noch gegenläufige Kanten
+                int first = random.nextInt(graph.getNodeCount() - 1);
+                int second = first + 1 + random.nextInt(graph.getNodeCount() - first - 1);
+                long capacity = 1 + random.nextInt(GraphGenerator.MAXIMUM_CAPACITY);
+                addEdge(graph, calculator, new Edge(new Node(GraphGenerator.toIdentifier(first)),
+                        new Node(GraphGenerator.toIdentifier(second)), capacity));
+
+                assertEquals(calculateColdFlow(graph, source, sink, EscapeRouteCalculator.DEFAULT_ENGINE_TYPE),
+                        calculator.calculateMaximumFlow(source, sink), family.toString());
+            }
+        }
+    }
+
+    /**
+     * Testet, dass ein übertragener Fluss gültig bleibt und die erneute Berechnung lediglich die durch die neue
+     * Kante entstandenen augmentierenden Pfade finden muss.
+     */
+    @Test
+    public void testTranslatedFlowIsReused() {
+        Graph graph = createExampleGraph();
+        FlowNetwork previousNetwork = new FlowNetwork(graph);
+        MaxFlowEngine engine = MaxFlowEngineType.EDMONDS_KARP.createEngine();
+        engine.calculateMaximumFlow(previousNetwork, previousNetwork.getNodeId(NODE_A),
+                previousNetwork.getNodeId(NODE_C));
+
+        graph.addEdge(new Edge(NODE_A, NODE_C, 4));
+        FlowNetwork network = new FlowNetwork(graph);
+        long[] translatedFlows = network.translateFlows(previousNetwork, previousNetwork.getFlows());
+        assertNotNull(translatedFlows);
+        network.setFlows(translatedFlows);
+        assertEquals(6, network.getNetInflow(network.getNodeId(NODE_C)));
+
+        MaxFlowEngine warmEngine = MaxFlowEngineType.EDMONDS_KARP.createEngine();
+        assertEquals(10, warmEngine.calculateMaximumFlow(network, network.getNodeId(NODE_A),
+                network.getNodeId(NODE_C)));
+        MaxFlowEngine coldEngine = MaxFlowEngineType.EDMONDS_KARP.createEngine();
+        FlowNetwork coldNetwork = network.copyWithEmptyFlow();
+        assertEquals(10, coldEngine.calculateMaximumFlow(coldNetwork, coldNetwork.getNodeId(NODE_A),
+                coldNetwork.getNodeId(NODE_C)));
+        assertTrue(warmEngine.getAugmentationCount() < coldEngine.getAugmentationCount());
+    }
+
+    /**
+     * Testet, dass ein Fluss nach dem Überschreiben einer Kante mit geringerer Kapazität nicht mehr übertragen
+     * wird und die erneute Anfrage ohne ihn das Ergebnis einer kalten Berechnung liefert.
+     */
+    @Test
+    public void testLoweredCapacityDropsRetainedFlow() {
+        Graph graph = createExampleGraph();
+        FlowNetwork previousNetwork = new FlowNetwork(graph);
+        MaxFlowEngineType.DINIC.createEngine().calculateMaximumFlow(previousNetwork,
+                previousNetwork.getNodeId(NODE_A), previousNetwork.getNodeId(NODE_C));
+        graph.addEdge(new Edge(NODE_A, NODE_B, 1));
+        assertNull(new FlowNetwork(graph).translateFlows(previousNetwork, previousNetwork.getFlows()));
+
+        for (MaxFlowEngineType engineType : MaxFlowEngineType.values()) {
+            Graph queriedGraph = createExampleGraph();
+            EscapeRouteCalculator calculator = new EscapeRouteNetwork(NETWORK_IDENTIFIER, queriedGraph)
+                    .getCalculator();
+            assertEquals(6, calculator.calculateMaximumFlow(NODE_A, NODE_C, engineType));
+
+            addEdge(queriedGraph, calculator, new Edge(NODE_A, NODE_B, 1));
+            long flow = calculator.calculateMaximumFlow(NODE_A, NODE_C, engineType);
+            assertEquals(3, flow, engineType.toString());
+            assertEquals(calculateColdFlow(queriedGraph, NODE_A, NODE_C, engineType), flow, engineType.toString());
+        }
+    }
+
+    /**
+     * Testet, dass die maximale Anzahl an Einträgen des Zwischenspeichers über das Fluchtwegenetz festgelegt wird.
+     */
+    @Test
+    public void testConfiguredCacheCapacity() {
+        Graph graph = createExampleGraph();
+        graph.addEdge(new Edge(NODE_A, new Node("e"), 1));
+        EscapeRouteCalculator calculator = new EscapeRouteNetwork(NETWORK_IDENTIFIER, graph, 1).getCalculator();
+        assertEquals(2, calculator.calculateAllMaximumFlows(EscapeRouteCalculator.DEFAULT_ENGINE_TYPE));
+
+        StringBuilder output = new StringBuilder();
+        calculator.writeMaximumFlows(output::append);
+        assertEquals(1, output.toString().split(System.lineSeparator()).length);
+    }
+
+    /**
+     * Erstellt den Graphen des Beispielnetzes a5b;b3c;a2d;d4c;b1d.
+     * @return Graph des Beispielnetzes
+     */
+    private static Graph createExampleGraph() {
+        Set<Edge> edges = new HashSet<>();
+        edges.add(new Edge(NODE_A, NODE_B, 5));
+        edges.add(new Edge(NODE_B, NODE_C, 3));
+        edges.add(new Edge(NODE_A, NODE_D, 2));
+        edges.add(new Edge(NODE_D, NODE_C, 4));
+        edges.add(new Edge(NODE_B, NODE_D, 1));
+        return new Graph(NETWORK_IDENTIFIER, edges, new HashSet<>());
+    }
+
+    /**
+     * Fügt eine Kante wie der Add-Befehl hinzu und benachrichtigt die Berechnungseinheit.
+     * @param graph Graph des Fluchtwegenetzes
+     * @param calculator Berechnungseinheit des Fluchtwegenetzes
+     * @param edge neue oder überschreibende Kante
+     */
+    private static void addEdge(Graph graph, EscapeRouteCalculator calculator, Edge edge) {
+        graph.addEdge(edge);
+        calculator.updateAfterEdgeAddition();
+    }
+
+    private static long calculateColdFlow(Graph graph, Node source, Node sink, MaxFlowEngineType engineType) {
+        return new EscapeRouteNetwork(COLD_NETWORK_IDENTIFIER, graph.copy()).getCalculator()
+                .calculateMaximumFlow(source, sink, engineType);
+    }
+}
@@ -0,0 +1,151 @@
+package edu.kit.informatik.escaperoutenetwork.core;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Testet die Verdrängung, das Entfernen und die sortierte Reihenfolge der Einträge des {@link FlowResultCache}.
+ * @author Phil Gengenbach
+ * @version 1.0
+ */
+public class FlowResultCacheTest {
+
+    /**
+     * Testet, dass bei vollem Zwischenspeicher der älteste Eintrag verdrängt und zurückgegeben wird.
+     */
+    @Test
+    public void testEvictsOldestEntry() {
+        FlowResultCache cache = new FlowResultCache(2);
+        assertEquals(FlowResultCache.NO_KEY, cache.put(1, 10));
+        assertEquals(FlowResultCache.NO_KEY, cache.put(2, 20));
+        assertEquals(1, cache.put(3, 30));
+
+        assertEquals(FlowResultCache.NO_FLOW, cache.get(1));
+        assertEquals(20, cache.get(2));
+        assertEquals(30, cache.get(3));
+        assertEquals(2, cache.size());
+    }
+
+    /**
+     * Testet, dass das Überschreiben eines Eintrags weder verdrängt noch die Verdrängungsreihenfolge verändert.
+     */
+    @Test
+    public void testOverwriteKeepsInsertionOrder() {
+        FlowResultCache cache = new FlowResultCache(2);
+        cache.put(1, 10);
+        cache.put(2, 20);
+        assertEquals(FlowResultCache.NO_KEY, cache.put(1, 5));
+        assertEquals(5, cache.get(1));
+        assertEquals(1, cache.put(3, 30));
+        assertEquals(FlowResultCache.NO_FLOW, cache.get(1));
+    }
+
+    /**
+     * Testet, dass die Einträge aufsteigend nach Fluss und anschließend nach Schlüssel sortiert sind.
+     */
+    @Test
+    public void testSortedOrder() {
+        FlowResultCache cache = new FlowResultCache();
+        cache.put(4, 7);
+        cache.put(2, 7);
+        cache.put(9, 1);
+        cache.put(2, 3);
+
+        assertEquals(3, cache.size());
+        assertEquals(9, cache.getSortedKey(0));
+        assertEquals(2, cache.getSortedKey(1));
+        assertEquals(3, cache.getSortedFlow(1));
+        assertEquals(4, cache.getSortedKey(2));
+    }
+
+    /**
+     * Testet, dass die sortierte Reihenfolge nach weiteren Einfüge-, Überschreib- und Verdrängungsvorgängen
+     * erneut hergestellt wird.
+     */
+    @Test
+    public void testSortedOrderAfterFurtherPuts() {
+        FlowResultCache cache = new FlowResultCache(3);
+        cache.put(1, 5);
+        cache.put(2, 3);
+        assertEquals(2, cache.getSortedKey(0));
+
+        cache.put(1, 1);
+        cache.put(3, 4);
+        cache.put(4, 2);
+        assertEquals(3, cache.size());
+        assertEquals(4, cache.getSortedKey(0));
+        assertEquals(2, cache.getSortedKey(1));
+        assertEquals(3, cache.getSortedKey(2));
+        assertEquals(4, cache.getSortedFlow(2));
+    }
+
+    /**
+     * Testet das fortlaufende Verdrängen bei vielen aufeinanderfolgenden Schlüsseln. Die Hashtabelle bleibt
+     * dabei klein, sodass Sondierungsketten entstehen, aus deren Mitte Einträge entfernt werden.
+     */
+    @Test
+    public void testContinuousEviction() {
+        int capacity = 8;
+        FlowResultCache cache = new FlowResultCache(capacity);
+        for (long key = 1; key <= 1000; key++) {
+            long expectedEvicted = key > capacity ? key - capacity : FlowResultCache.NO_KEY;
+            assertEquals(expectedEvicted, cache.put(key, key));
+            for (long cachedKey = Math.max(1, key - capacity + 1); cachedKey <= key; cachedKey++) {
+                assertEquals(cachedKey, cache.get(cachedKey));
+            }
+            if (key > capacity) {
+                assertEquals(FlowResultCache.NO_FLOW, cache.get(key - capacity));
+            }
+        }
+        assertEquals(capacity, cache.size());
+    }
+
+    /**
+     * Vergleicht den Zwischenspeicher bei vielen zufälligen Einfüge- und Überschreibvorgängen mit einem
+     * Referenzmodell, sodass Verdrängungen in allen Lagen der Hashtabelle auftreten.
+     */
+    @Test
+    public void testRandomOperationsMatchModel() {
+        int capacity = 50;
+        int keyCount = 200;
+        FlowResultCache cache = new FlowResultCache(capacity);
+        Map<Long, Long> model = new LinkedHashMap<>();
+        Random random = new Random(1);
+        for (int operation = 0; operation < 5000; operation++) {
+            long key = random.nextInt(keyCount) + 1;
+            long flow = random.nextInt(keyCount);
+            long expectedEvicted = FlowResultCache.NO_KEY;
+            if (!model.containsKey(key) && model.size() == capacity) {
+                expectedEvicted = model.keySet().iterator().next();
+                model.remove(expectedEvicted);
+            }
+            if (model.containsKey(key)) {
+                model.replace(key, flow);
+            } else {
+                model.put(key, flow);
+            }
+            assertEquals(expectedEvicted, cache.put(key, flow));
+
+            for (long probedKey = 1; probedKey <= keyCount; probedKey++) {
+                assertEquals(model.getOrDefault(probedKey, FlowResultCache.NO_FLOW), cache.get(probedKey));
+            }
+        }
+
+        List<Map.Entry<Long, Long>> sortedEntries = new ArrayList<>(model.entrySet());
+        sortedEntries.sort(Comparator.comparing(Map.Entry<Long, Long>::getValue)
+                .thenComparing(Map.Entry::getKey));
+        assertEquals(sortedEntries.size(), cache.size());
+        for (int i = 0; i < sortedEntries.size(); i++) {
+            assertEquals(sortedEntries.get(i).getKey(), cache.getSortedKey(i));
+            assertEquals(sortedEntries.get(i).getValue(), cache.getSortedFlow(i));
+        }
+    }
+}
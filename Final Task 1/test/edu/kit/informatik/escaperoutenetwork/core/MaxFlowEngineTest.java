@@ -0,0 +1,138 @@
+package edu.kit.informatik.escaperoutenetwork.core;
+
+import edu.kit.informatik.escaperoutenetwork.generator.GraphFamily;
+import edu.kit.informatik.escaperoutenetwork.generator.GraphGenerator;
+import edu.kit.informatik.escaperoutenetwork.graph.Edge;
+import edu.kit.informatik.escaperoutenetwork.graph.FlowNetwork;
+import edu.kit.informatik.escaperoutenetwork.graph.Graph;
+import edu.kit.informatik.escaperoutenetwork.graph.Node;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Testet, dass alle Verfahren zur Berechnung des maximalen Flusses auf festen und zufällig erzeugten
+ * Flussnetzwerken denselben Wert liefern und einen gültigen Fluss im Netzwerk hinterlassen.
+ * @author Phil Gengenbach
+ * @version 1.0
+ */
+public class MaxFlowEngineTest {
+
+    private static final String NETWORK_IDENTIFIER = "TEST";
+    private static final int GENERATED_EDGE_COUNT = 300;
+    private static final int SEED_COUNT = 5;
+    private static final int RANDOM_PAIR_COUNT = 10;
+    private static final int FIRST_NODE = 0;
+    private static final int LAST_NODE_OFFSET = 1;
+
+    /**
+     * Testet alle Verfahren auf dem Beispielnetz der Aufgabenstellung.
+     */
+    @Test
+    public void testExampleNetwork() {
+        FlowNetwork network = createNetwork("a5b", "b3c", "a2d", "d4c", "b1d");
+        assertMaximumFlow(6, network, "a", "c");
+        assertMaximumFlow(5, network, "a", "b");
+    }
+
+    /**
+     * Testet alle Verfahren auf einem Netz, in dem ein augmentierender Pfad über eine Rückkante benötigt wird.
+     */
+    @Test
+    public void testNetworkWithCrossingPaths() {
+        FlowNetwork network = createNetwork("s10a", "s10c", "a4b", "a2c", "a8d", "c9d", "b10t", "d6b", "d10t");
+        assertMaximumFlow(19, network, "s", "t");
+    }
+
+    /**
+     * Testet alle Verfahren auf einem Netz, in dem der Zielknoten vom Startknoten aus nicht erreichbar ist.
+     */
+    @Test
+    public void testUnreachableSink() {
+        FlowNetwork network = createNetwork("a3b", "c4d");
+        assertMaximumFlow(0, network, "a", "d");
+    }
+
+    /**
+     * Testet alle Verfahren auf reproduzierbar erzeugten Netzen aller Graphfamilien, jeweils zwischen dem
+     * ersten und letzten Knoten sowie zwischen zufällig gewählten Knotenpaaren.
+     */
+    @Test
+    public void testGeneratedNetworks() {
+        for (GraphFamily family : GraphFamily.values()) {
+            for (int seed = 0; seed < SEED_COUNT; seed++) {
+                List<Edge> edges = new GraphGenerator(seed).generate(family, GENERATED_EDGE_COUNT);
+                FlowNetwork network = new FlowNetwork(new Graph(NETWORK_IDENTIFIER, new HashSet<>(edges),
+                        new HashSet<>()));
+                int lastNode = network.getNodeCount() - LAST_NODE_OFFSET;
+                assertEqualMaximumFlows(network, network.getNodeId(new Node(GraphGenerator.toIdentifier(FIRST_NODE))),
+                        network.getNodeId(new Node(GraphGenerator.toIdentifier(lastNode))));
+
+                Random random = new Random(seed);
+                for (int i = 0; i < RANDOM_PAIR_COUNT; i++) {
+                    int source = random.nextInt(network.getNodeCount());
+                    int sink = random.nextInt(network.getNodeCount());
+                    if (source != sink) {
+                        assertEqualMaximumFlows(network, source, sink);
+                    }
+                }
+            }
+        }
+    }
+
+    private static FlowNetwork createNetwork(String... sections) {
+        List<Edge> edges = new ArrayList<>();
+        for (String section : sections) {
+            String capacity = section.replaceAll("[a-z]", "");
+            String[] nodes = section.split("[0-9]+");
+            edges.add(new Edge(new Node(nodes[0]), new Node(nodes[1]), Long.parseLong(capacity)));
+        }
+        return new FlowNetwork(new Graph(NETWORK_IDENTIFIER, new HashSet<>(edges), new HashSet<>()));
+    }
+
+    private static void assertMaximumFlow(long expectedFlow, FlowNetwork network, String source, String sink) {
+        int sourceId = network.getNodeId(new Node(source));
+        int sinkId = network.getNodeId(new Node(sink));
+        for (MaxFlowEngineType engineType : MaxFlowEngineType.values()) {
+            assertEquals(expectedFlow, calculateValidFlow(engineType, network, sourceId, sinkId),
+                    engineType.toString());
+        }
+    }
+
+    private static void assertEqualMaximumFlows(FlowNetwork network, int source, int sink) {
+        long expectedFlow = calculateValidFlow(MaxFlowEngineType.EDMONDS_KARP, network, source, sink);
+        for (MaxFlowEngineType engineType : MaxFlowEngineType.values()) {
+            assertEquals(expectedFlow, calculateValidFlow(engineType, network, source, sink),
+                    engineType + " " + source + " " + sink);
+        }
+    }
+
+    /**
+     * Berechnet den maximalen Fluss auf einer Kopie des Netzwerks und überprüft, dass dort anschließend ein
+     * gültiger Fluss des berechneten Werts verbleibt.
+     * @param engineType Verfahren
+     * @param network Flussnetzwerk
+     * @param source Index des Startknotens
+     * @param sink Index des Zielknotens
+     * @return berechneter maximaler Fluss
+     */
+    private static long calculateValidFlow(MaxFlowEngineType engineType, FlowNetwork network, int source,
+            int sink) {
+        FlowNetwork queryNetwork = network.copyWithEmptyFlow();
+        long maximumFlow = engineType.createEngine().calculateMaximumFlow(queryNetwork, source, sink);
+        for (int arc = 0; arc < queryNetwork.getArcCount(); arc++) {
+            assertTrue(queryNetwork.getRemainingCapacity(arc) >= 0, engineType.toString());
+        }
+        for (int node = 0; node < queryNetwork.getNodeCount(); node++) {
+            long expectedInflow = node == sink ? maximumFlow : node == source ? -maximumFlow : 0;
+            assertEquals(expectedInflow, queryNetwork.getNetInflow(node), engineType.toString());
+        }
+        return maximumFlow;
+    }
+}
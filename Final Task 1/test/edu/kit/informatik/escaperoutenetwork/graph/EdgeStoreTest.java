@@ -0,0 +1,129 @@
+package edu.kit.informatik.escaperoutenetwork.graph;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Testet das Nachschlagen von Kanten über viele, teils kollidierende Schlüssel sowie den sortierten Index des
+ * {@link EdgeStore}.
+ * @author Phil Gengenbach
+ * @version 1.0
+ */
+public class EdgeStoreTest {
+
+    /**
+     * Testet das Nachschlagen von Kanten mit aufeinanderfolgenden Schlüsseln, wie sie bei Kanten desselben
+     * Startknotens entstehen. Nicht enthaltene Schlüssel zwischen den enthaltenen Schlüsseln werden dabei
+     * über dieselben Sondierungsketten gesucht.
+     */
+    @Test
+    public void testFindWithDenseKeys() {
+        EdgeStore edgeStore = new EdgeStore();
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(i, edgeStore.add(2 * i + 2, i, i + 1, i * 10));
+        }
+
+        for (int i = 0; i < 1000; i++) {
+            int edge = edgeStore.find(2 * i + 2);
+            assertEquals(i, edge);
+            assertEquals(i, edgeStore.getSource(edge));
+            assertEquals(i + 1, edgeStore.getTarget(edge));
+            assertEquals(i * 10, edgeStore.getCapacity(edge));
+            assertEquals(EdgeStore.NO_EDGE, edgeStore.find(2 * i + 1));
+        }
+    }
+
+    /**
+     * Testet das Nachschlagen vieler Kanten über mehrere Vergrößerungen der Hashtabelle hinweg.
+     */
+    @Test
+    public void testFindAcrossResizes() {
+        List<Long> keys = createRandomKeys(5000, new Random(1));
+        EdgeStore edgeStore = new EdgeStore();
+        for (long key : keys) {
+            edgeStore.add(key, 0, 0, key);
+        }
+
+        assertEquals(keys.size(), edgeStore.size());
+        for (int i = 0; i < keys.size(); i++) {
+            int edge = edgeStore.find(keys.get(i));
+            assertEquals(i, edge);
+            assertEquals(keys.get(i), edgeStore.getCapacity(edge));
+        }
+        assertEquals(EdgeStore.NO_EDGE, edgeStore.find(Long.MAX_VALUE));
+    }
+
+    /**
+     * Testet, dass der sortierte Index beim abwechselnden Hinzufügen und Abfragen fortlaufend korrekt bleibt.
+     */
+    @Test
+    public void testSortedIndexWithInterleavedAdditions() {
+        Random random = new Random(2);
+        List<Long> keys = createRandomKeys(2000, random);
+        EdgeStore edgeStore = new EdgeStore();
+        List<Long> addedKeys = new ArrayList<>();
+        for (long key : keys) {
+            edgeStore.add(key, 0, 0, key);
+            addedKeys.add(key);
+            if (random.nextInt(20) == 0) {
+                assertSorted(edgeStore, addedKeys);
+            }
+        }
+        assertSorted(edgeStore, addedKeys);
+    }
+
+    /**
+     * Testet, dass eine Kopie samt sortiertem Index unabhängig von der ursprünglichen Kantenmenge ist.
+     */
+    @Test
+    public void testCopyIsIndependent() {
+        Random random = new Random(3);
+        List<Long> keys = createRandomKeys(300, random);
+        EdgeStore edgeStore = new EdgeStore();
+        for (long key : keys.subList(0, 200)) {
+            edgeStore.add(key, 0, 0, key);
+        }
+        edgeStore.sortEdges();
+        edgeStore.add(keys.get(200), 0, 0, keys.get(200));
+
+        EdgeStore copy = edgeStore.copy();
+        for (long key : keys.subList(201, keys.size())) {
+            copy.add(key, 0, 0, key);
+        }
+        copy.setCapacity(0, 0);
+
+        assertSorted(copy, keys);
+        assertSorted(edgeStore, keys.subList(0, 201));
+        assertEquals(keys.get(0), edgeStore.getCapacity(0));
+        assertEquals(EdgeStore.NO_EDGE, edgeStore.find(keys.get(keys.size() - 1)));
+    }
+
+    private static void assertSorted(EdgeStore edgeStore, List<Long> keys) {
+        List<Long> sortedKeys = new ArrayList<>(keys);
+        Collections.sort(sortedKeys);
+        edgeStore.sortEdges();
+        assertEquals(sortedKeys.size(), edgeStore.size());
+        for (int position = 0; position < sortedKeys.size(); position++) {
+            assertEquals(edgeStore.find(sortedKeys.get(position)), edgeStore.getSortedEdge(position));
+        }
+    }
+
+    private static List<Long> createRandomKeys(int count, Random random) {
+        Set<Long> keys = new LinkedHashSet<>();
+        while (keys.size() < count) {
+            long key = random.nextLong() & Long.MAX_VALUE;
+            if (key != 0) {
+                keys.add(key);
+            }
+        }
+        return new ArrayList<>(keys);
+    }
+}
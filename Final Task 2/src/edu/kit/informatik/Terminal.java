@@ -1,9 +1,13 @@
 package edu.kit.informatik;
 
+import java.io.BufferedOutputStream;
 import java.io.BufferedReader;
+import java.io.FileDescriptor;
+import java.io.FileOutputStream;
 import java.io.FileReader;
 import java.io.IOException;
 import java.io.InputStreamReader;
+import java.io.PrintStream;
 
 /**
  * This class provides some simple methods for input/output from and to a terminal as well as a method to read in
@@ -13,6 +17,12 @@ import java.io.InputStreamReader;
  * tells you to use this class for input and output never use System.out, System.err or System.in in the same
  * assignment.
  *
+ * <p>By default every printed line is written to {@code System.out} immediately. In batched output mode all output
+ * is collected in a large buffer instead and only written when the buffer is full, when the end of the input is
+ * reached or when {@link #flush()} is called explicitly. The batched output mode can be enabled via
+ * {@link #setBatchedOutput(boolean)} or by starting the JVM with {@code -D}{@value #BATCHED_OUTPUT_PROPERTY}{@code
+ * =true}.
+ *
  * @author  ITI, VeriAlg Group
  * @author  IPD, SDQ Group
  * @author  KASTEL, SDQ Group
@@ -20,6 +30,16 @@ import java.io.InputStreamReader;
  */
 public final class Terminal {
 
+    /**
+     * Name of the system property which enables the batched output mode at startup.
+     */
+    public static final String BATCHED_OUTPUT_PROPERTY = "edu.kit.informatik.batchedOutput";
+
+    /**
+     * Size of the output buffer in bytes while the batched output mode is enabled.
+     */
+    private static final int BATCH_BUFFER_SIZE = 1 << 20;
+
     /**
      * Reads text from the "standard" input stream, buffering characters so as to provide for the efficient reading
      * of characters, arrays, and lines. This stream is already open and ready to supply input data and corresponds
@@ -27,6 +47,21 @@ public final class Terminal {
      */
     private static final BufferedReader IN = new BufferedReader(new InputStreamReader(System.in));
 
+    /**
+     * Stream all output is written to. This is either {@code System.out} or, in batched output mode, a stream
+     * writing to the "standard" output through a large buffer without flushing after each line.
+     */
+    private static volatile PrintStream out = System.out;
+
+    static {
+        /*
+         * Output still buffered when the JVM terminates, e.g. after a quit command, is written by this hook, so no
+         * explicit flush is needed before the program ends.
+         */
+        Runtime.getRuntime().addShutdownHook(new Thread(Terminal::flush));
+        setBatchedOutput(Boolean.getBoolean(BATCHED_OUTPUT_PROPERTY));
+    }
+
     /**
      * Private constructor to avoid object generation.
      */
@@ -34,6 +69,41 @@ public final class Terminal {
         throw new IllegalStateException("Utility-class constructor.");
     }
 
+    /**
+     * Enables or disables the batched output mode. Any output buffered so far is flushed before switching.
+     *
+     * @param batched whether the output should be batched
+     */
+    public static synchronized void setBatchedOutput(final boolean batched) {
+        if (batched == isBatchedOutput()) {
+            return;
+        }
+        out.flush();
+        out = batched ? createBatchedStream() : System.out;
+    }
+
+    /**
+     * Returns whether the batched output mode is enabled.
+     *
+     * @return whether the output is batched
+     */
+    public static synchronized boolean isBatchedOutput() {
+        return out != System.out;
+    }
+
+    /**
+     * Writes all buffered output. This is the explicit sync point of the batched output mode and has no
+     * observable effect otherwise.
+     */
+    public static synchronized void flush() {
+        out.flush();
+    }
+
+    private static PrintStream createBatchedStream() {
+        return new PrintStream(new BufferedOutputStream(new FileOutputStream(FileDescriptor.out), BATCH_BUFFER_SIZE),
+                false);
+    }
+
     /**
      * Prints the given error-{@code message} with the prefix "{@code Error, }".
      *
@@ -59,7 +129,7 @@ public final class Terminal {
      * @see   String#valueOf(Object)
      */
     public static void printLine(final Object object) {
-        System.out.println(object);
+        out.println(object);
     }
 
     /**
@@ -79,19 +149,44 @@ public final class Terminal {
          * differently when passing the provided parameter to the System.out.println(Object)
          * method.)
          */
-        System.out.println(charArray);
+        out.println(charArray);
+    }
+
+    /**
+     * Prints the given character sequence without terminating the line.
+     *
+     * <p>The character sequence is written straight to the standard output stream, so a large output can be
+     * printed in several chunks without ever being collected in a single {@code String}.
+     *
+     * @param charSequence the character sequence to be printed
+     */
+    public static void print(final CharSequence charSequence) {
+        out.append(charSequence);
+    }
+
+    /**
+     * Terminates the current line by writing the line separator string.
+     */
+    public static void printLine() {
+        out.println();
     }
 
     /**
      * Reads a line of text. A line is considered to be terminated by any one of a line feed ('\n'), a carriage return
      * ('\r'), or a carriage return followed immediately by a linefeed.
      *
+     * <p>If the end of the stream has been reached, all buffered output is flushed before returning.
+     *
      * @return a {@code String} containing the contents of the line, not including any line-termination characters, or
      *         {@code null} if the end of the stream has been reached
      */
     public static String readLine() {
         try {
-            return IN.readLine();
+            final String line = IN.readLine();
+            if (line == null) {
+                flush();
+            }
+            return line;
         } catch (final IOException e) {
             /*
              * The IOException will not occur during tests executed by the praktomat, therefore the
@@ -4,8 +4,13 @@
 
 package edu.kit.informatik.firebreaker.core;
 
+import java.util.function.Consumer;
+
 /**
  * Diese Klasse beschreibt ein Ergebnis der Befehlsausführung.
+ * Die Nachricht eines Ergebnisses kann entweder als Zeichenkette vorliegen oder über einen {@link ResultWriter}
+ * erst bei der Ausgabe abschnittsweise erzeugt werden, sodass umfangreiche Ausgaben nicht vollständig im
+ * Speicher aufgebaut werden müssen.
  * @author Lucas Alber
  * @author Phil Gengenbach
  * @version 1.0
@@ -14,6 +19,15 @@ public final class Result {
 
     private final ResultType resultType;
     private final String message;
+    private final ResultWriter writer;
+
+    /**
+     * Erstellt eine neue Instanz eines Ergebnisses ohne Nachricht.
+     * @param resultType der Typ des Ergebnisses einer Befehlsausführung
+     */
+    public Result(ResultType resultType) {
+        this(resultType, (String) null);
+    }
 
     /**
      * Erstellt eine neue Instanz eines Ergebnisses
@@ -23,6 +37,19 @@ public final class Result {
     public Result(ResultType resultType, String message) {
         this.resultType = resultType;
         this.message = message;
+        this.writer = null;
+    }
+
+    /**
+     * Erstellt eine neue Instanz eines Ergebnisses, dessen Nachricht erst bei der Ausgabe abschnittsweise
+     * erzeugt wird.
+     * @param resultType der Typ des Ergebnisses einer Befehlsausführung
+     * @param writer schrittweise Ausgabe der Nachricht des Ergebnisses
+     */
+    public Result(ResultType resultType, ResultWriter writer) {
+        this.resultType = resultType;
+        this.message = null;
+        this.writer = writer;
     }
 
     /**
@@ -35,10 +62,45 @@ public final class Result {
 
     /**
      * Gibt die Nachricht des Ergebnisses zurück.
+     * Wird die Nachricht schrittweise erzeugt, so wird sie dazu vollständig als Zeichenkette aufgebaut.
      * @return Nachricht des Ergebnisses
      */
     public String getMessage() {
-        return this.message;
+        if (writer == null) {
+            return this.message;
+        }
+        StringBuilder builder = new StringBuilder();
+        writer.writeTo(builder::append);
+        return builder.toString();
+    }
+
+    /**
+     * Überprüft, ob das Ergebnis über eine Nachricht verfügt.
+     * @return ob das Ergebnis über eine Nachricht verfügt
+     */
+    public boolean hasMessage() {
+        return message != null || writer != null;
+    }
+
+    /**
+     * Überprüft, ob die Nachricht des Ergebnisses erst bei der Ausgabe abschnittsweise erzeugt wird.
+     * @return ob die Nachricht abschnittsweise erzeugt wird
+     */
+    public boolean isStreamed() {
+        return writer != null;
+    }
+
+    /**
+     * Schreibt die Nachricht des Ergebnisses abschnittsweise in eine gegebene Ausgabe, ohne sie vorher als
+     * vollständige Zeichenkette aufzubauen.
+     * @param output Ausgabe, welche die einzelnen Abschnitte entgegennimmt
+     */
+    public void writeMessageTo(Consumer<CharSequence> output) {
+        if (writer == null) {
+            output.accept(message);
+        } else {
+            writer.writeTo(output);
+        }
     }
 
     /**
@@ -0,0 +1,22 @@
+package edu.kit.informatik.firebreaker.core;
+
+import java.util.function.Consumer;
+
+/**
+ * Modelliert die schrittweise Ausgabe der Nachricht eines Ergebnisses.
+ * Die Nachricht wird dabei nicht als vollständige Zeichenkette aufgebaut, sondern in Abschnitten an eine
+ * Ausgabe übergeben. Ein übergebener Abschnitt ist nur während des Aufrufs der Ausgabe gültig und darf von
+ * dieser nicht aufbewahrt werden.
+ * @author Phil Gengenbach
+ * @version 1.0
+ */
+@FunctionalInterface
+public interface ResultWriter {
+
+    /**
+     * Schreibt die Nachricht abschnittsweise in eine gegebene Ausgabe.
+     * Die Nachricht endet dabei ohne abschließenden Zeilenseparator.
+     * @param output Ausgabe, welche die einzelnen Abschnitte entgegennimmt
+     */
+    void writeTo(Consumer<CharSequence> output);
+}
@@ -0,0 +1,69 @@
+package edu.kit.informatik.firebreaker.event;
+
+import edu.kit.informatik.firebreaker.core.Result;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Modelliert ein Ereignis des Java Flight Recorders, welches die abschnittsweise Ausgabe der Nachricht eines
+ * Ergebnisses umfasst. Da die Nachricht dabei erst erzeugt wird, hält das Ereignis neben deren Größe auch die
+ * dafür benötigte Zeit fest.
+ * @author Phil Gengenbach
+ * @version 1.0
+ */
+@Name(CommandOutputEvent.NAME)
+@Label("Command Output")
+@Category({EventCategories.APPLICATION, EventCategories.COMMANDS})
+@Description("Creation and output of a streamed command result")
+@StackTrace(false)
+public final class CommandOutputEvent extends Event {
+
+    /**
+     * Eindeutiger Name des Ereignisses.
+     */
+    public static final String NAME = "edu.kit.informatik.firebreaker.CommandOutput";
+
+    @Label("Command Name")
+    private final String commandName;
+    @Label("Game")
+    private final int gameNumber;
+    @Label("Result Size")
+    @Description("Number of characters of the result message")
+    private long resultSize;
+
+    private CommandOutputEvent(String commandName, int gameNumber) {
+        this.commandName = commandName;
+        this.gameNumber = gameNumber;
+    }
+
+    /**
+     * Gibt ein Ergebnis zurück, dessen abschnittsweise Ausgabe jeweils ein Ereignis erzeugt.
+     * Ergebnisse ohne abschnittsweise erzeugte Nachricht werden unverändert zurückgegeben.
+     * @param commandName Name des Befehls
+     * @param gameNumber Nummer des laufenden Spiels
+     * @param result Ergebnis der Befehlsausführung
+     * @return beobachtetes Ergebnis
+     */
+    public static Result observe(String commandName, int gameNumber, Result result) {
+        if (!result.isStreamed()) {
+            return result;
+        }
+        return new Result(result.getType(), output -> {
+            CommandOutputEvent event = new CommandOutputEvent(commandName, gameNumber);
+            if (!event.isEnabled()) {
+                result.writeMessageTo(output);
+                return;
+            }
+            event.begin();
+            result.writeMessageTo(chunk -> {
+                event.resultSize += chunk.length();
+                output.accept(chunk);
+            });
+            event.commit();
+        });
+    }
+}
@@ -0,0 +1,32 @@
+package edu.kit.informatik.firebreaker.event;
+
+import edu.kit.informatik.firebreaker.exception.ErrorMessages;
+
+/**
+ * Bündelt die Kategorien, unter denen die Ereignisse des Java Flight Recorders in einer Aufzeichnung
+ * gruppiert werden.
+ * @author Phil Gengenbach
+ * @version 1.0
+ */
+public final class EventCategories {
+
+    /**
+     * Oberste Kategorie aller Ereignisse des Spiels.
+     */
+    public static final String APPLICATION = "Fire Breaker";
+    /**
+     * Kategorie der Ereignisse zur Befehlsausführung.
+     */
+    public static final String COMMANDS = "Commands";
+    /**
+     * Kategorie der Ereignisse zur Feuerausbreitung.
+     */
+    public static final String FIRE = "Fire";
+
+    /**
+     * Privater Konstruktor, da Utillity Klasse.
+     */
+    private EventCategories() {
+        throw new IllegalStateException(ErrorMessages.ILLEGAL_STATE);
+    }
+}
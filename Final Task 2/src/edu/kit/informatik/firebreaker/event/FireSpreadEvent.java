@@ -0,0 +1,56 @@
+package edu.kit.informatik.firebreaker.event;
+
+import edu.kit.informatik.firebreaker.dice.SpreadDirection;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Modelliert ein Ereignis des Java Flight Recorders, welches die Ausbreitung des Feuers auf dem Spielfeld
+ * umfasst. Das Ereignis hält die Ausbreitungsrichtung sowie die Anzahl brennender Felder nach der Ausbreitung
+ * fest. Innerhalb eines Befehls liegt es im selben Thread zeitlich in dessen {@link CommandEvent}.
+ * @author Phil Gengenbach
+ * @version 1.0
+ */
+@Name(FireSpreadEvent.NAME)
+@Label("Fire Spread")
+@Category({EventCategories.APPLICATION, EventCategories.FIRE})
+@Description("Spread of the fire in one direction at the end of a round")
+@StackTrace(false)
+public final class FireSpreadEvent extends Event {
+
+    /**
+     * Eindeutiger Name des Ereignisses.
+     */
+    public static final String NAME = "edu.kit.informatik.firebreaker.FireSpread";
+
+    @Label("Direction")
+    private final String direction;
+    @Label("Lightly Burning Cells")
+    private int lightlyBurningCells;
+    @Label("Strongly Burning Cells")
+    private int stronglyBurningCells;
+
+    /**
+     * Erstellt ein neues Ereignis für eine Ausbreitung des Feuers in eine gegebene Richtung.
+     * @param spreadDirection Ausbreitungsrichtung des Feuers
+     */
+    public FireSpreadEvent(SpreadDirection spreadDirection) {
+        this.direction = spreadDirection.name();
+    }
+
+    /**
+     * Setzt die Anzahl brennender Felder nach der Ausbreitung.
+     * Um die Felder nur bei Bedarf zu zählen, wird dies erst aufgerufen, wenn das Ereignis tatsächlich
+     * aufgezeichnet wird.
+     * @param lightlyBurningCells Anzahl leicht brennender Felder
+     * @param stronglyBurningCells Anzahl stark brennender Felder
+     */
+    public void setBurningCells(int lightlyBurningCells, int stronglyBurningCells) {
+        this.lightlyBurningCells = lightlyBurningCells;
+        this.stronglyBurningCells = stronglyBurningCells;
+    }
+}
@@ -1,7 +1,9 @@
 package edu.kit.informatik.firebreaker.gameboard;
 
+import edu.kit.informatik.firebreaker.core.LineChunkWriter;
 import edu.kit.informatik.firebreaker.core.Position;
 import edu.kit.informatik.firebreaker.dice.SpreadDirection;
+import edu.kit.informatik.firebreaker.event.FireSpreadEvent;
 import edu.kit.informatik.firebreaker.exception.ErrorMessages;
 import edu.kit.informatik.firebreaker.exception.FireBreakerException;
 import edu.kit.informatik.firebreaker.model.FireBreaker;
@@ -15,6 +17,7 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Queue;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 /**
@@ -236,9 +239,23 @@ public class GameBoard {
      * Breitet das Feuer in eine gegebene Himmelsrichtung auf dem {@link GameBoard} aus.
      * Dabei springt von jedem stark brennenden Feld Feuer auf alle Nachbarfelder in die gegebene
      * Himmelsrichtung. Zusätzlich wird jedes leicht brennende Feld zu einem stark brennenden Feld.
+     * Die Ausbreitung wird als {@link FireSpreadEvent} für den Java Flight Recorder aufgezeichnet.
      * @param spreadDirection Ausbreitungsrichtung des Feuers
      */
     public void spreadFireInDirection(SpreadDirection spreadDirection) {
+        FireSpreadEvent event = new FireSpreadEvent(spreadDirection);
+        event.begin();
+        spreadFire(spreadDirection);
+        event.end();
+        //Die brennenden Felder werden nur für tatsächlich aufgezeichnete Ereignisse gezählt
+        if (event.shouldCommit()) {
+            event.setBurningCells(getCellsInState(FieldState.LIGHTLY_BURNING).size(),
+                    getCellsInState(FieldState.STRONGLY_BURNING).size());
+            event.commit();
+        }
+    }
+
+    private void spreadFire(SpreadDirection spreadDirection) {
         if (spreadDirection == SpreadDirection.ALL_DIRECTIONS) {
             List<GameCell> spreadFireCells = getCellsInState(FieldState.LIGHTLY_BURNING);
             for (GameCell gameCell : getGameCellList()) {
@@ -470,25 +487,23 @@ public class GameBoard {
     }
 
     /**
-     * Gibt eine textuelle Repräsentation des Spielfelders zurück, wobei nur
-     * der Zustand von Wälder repräsentiert wird und alle anderen Felder durch ein
+     * Schreibt eine textuelle Repräsentation des Spielfelders zeilenweise und abschnittsweise in eine gegebene
+     * Ausgabe, wobei nur der Zustand von Wälder repräsentiert wird und alle anderen Felder durch ein
      * x ersetzt werden.
-     * @return textuelle Repräsentation des Spielfelders
+     * @param output Ausgabe, welche die einzelnen Abschnitte entgegennimmt
      */
-    public String getBoardRepresentation() {
-        StringBuilder builder = new StringBuilder();
+    public void writeBoardRepresentation(Consumer<CharSequence> output) {
+        LineChunkWriter writer = new LineChunkWriter(output);
         for (int i = 0; i < getBoardRowSize(); i++) {
+            StringBuilder line = writer.nextLine();
             for (int j = 0; j < getBoardColumnSize(); j++) {
                 GameCell gameCell = gameField[i][j];
-                builder.append(gameCell.getFieldRepresentation());
+                line.append(gameCell.getFieldRepresentation());
                 if (j < getMaximumColumnIndex()) {
-                    builder.append(STRING_SEPERATOR);
+                    line.append(STRING_SEPERATOR);
                 }
             }
-            if (i < getMaximumRowIndex()) {
-                builder.append(System.lineSeparator());
-            }
         }
-        return builder.toString();
+        writer.flush();
     }
 }
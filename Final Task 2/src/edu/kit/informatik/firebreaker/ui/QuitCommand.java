@@ -38,7 +38,7 @@ public final class QuitCommand extends Command {
     @Override
     public Result execute() {
         this.session.stop();
-        return new Result(Result.ResultType.SUCCESS, null);
+        return new Result(Result.ResultType.SUCCESS);
     }
 
 
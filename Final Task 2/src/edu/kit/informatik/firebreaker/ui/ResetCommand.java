@@ -40,6 +40,6 @@ public class ResetCommand extends Command {
     @Override
     public Result execute() {
         session.reset();
-        return new Result(Result.ResultType.SUCCESS, null);
+        return new Result(Result.ResultType.SUCCESS);
     }
 }
@@ -3,6 +3,8 @@ package edu.kit.informatik.firebreaker.ui;
 import edu.kit.informatik.Terminal;
 import edu.kit.informatik.firebreaker.core.Application;
 import edu.kit.informatik.firebreaker.core.Result;
+import edu.kit.informatik.firebreaker.event.CommandEvent;
+import edu.kit.informatik.firebreaker.event.CommandOutputEvent;
 import edu.kit.informatik.firebreaker.model.FireBreaker;
 import edu.kit.informatik.firebreaker.exception.ErrorMessages;
 import edu.kit.informatik.firebreaker.exception.FireBreakerException;
@@ -12,6 +14,8 @@ import edu.kit.informatik.firebreaker.status.InOutputStrings;
  * Verarbeitung von Benutzereingaben und -ausgaben. Hier findet außerdem die Fehlerbehandlung statt.
  * Erlaubt die Ausführung von {@link Command}.
  * Eine laufende Sitzung kann gestoppt werden.
+ * Das Einlesen und die Ausführung jedes Befehls wird als {@link CommandEvent} für den Java Flight Recorder
+ * aufgezeichnet, die Ausgabe abschnittsweise erzeugter Nachrichten als {@link CommandOutputEvent}.
  * @author Phil Gengenbach
  * @version 1.0
  */
@@ -19,8 +23,10 @@ public final class Session {
 
     private static final int COMMAND_LINE_LIMITER = 2;
     private static final int ARGUMENT_LIMITER = -1;
+    private static final int FIRST_GAME = 1;
 
     private boolean running = true;
+    private int gameNumber = FIRST_GAME;
 
     private FireBreakerCommands fireBreakerCommands;
     private FireBreaker fireBreakerGameInstance;
@@ -49,33 +55,45 @@ public final class Session {
 
             String commandName = lineContent[0];
             String[] commandArguments;
+            int argumentSize;
 
             if (lineContent.length >= COMMAND_LINE_LIMITER) {
                 commandArguments = lineContent[1].split(InOutputStrings.ARGUMENT_SAPARATOR, ARGUMENT_LIMITER);
+                argumentSize = lineContent[1].length();
             } else {
                 commandArguments = new String[0];
+                argumentSize = 0;
             }
 
             if (fireBreakerCommands.containsCommand(commandName)) {
                 Command command = fireBreakerCommands.getCommandMap().get(commandName);
-                try {
-                    command.parseCommandLine(commandArguments);
-                    executeCommand(command);
-                } catch (FireBreakerException fireBreakerException) {
-                    Terminal.printError(fireBreakerException.getMessage());
-                }
+                CommandEvent event = new CommandEvent(commandName, gameNumber, commandArguments, argumentSize);
+                event.begin();
+                Result result = executeCommand(command, commandArguments);
+                event.recordResult(result);
+                event.commit();
+                printResult(CommandOutputEvent.observe(commandName, gameNumber, result));
             } else {
                 Terminal.printError(ErrorMessages.COMMAND_DOES_NOT_EXIST);
             }
         }
     }
 
-    private void executeCommand(final Command command) {
-        final Result result = command.execute();
+    private static Result executeCommand(final Command command, final String[] commandArguments) {
+        try {
+            command.parseCommandLine(commandArguments);
+            return command.execute();
+        } catch (FireBreakerException fireBreakerException) {
+            return new Result(Result.ResultType.FAILURE, fireBreakerException.getMessage());
+        }
+    }
+
+    private static void printResult(final Result result) {
         switch (result.getType()) {
             case SUCCESS:
-                if (result.getMessage() != null) {
-                    Terminal.printLine(result.getMessage());
+                if (result.hasMessage()) {
+                    result.writeMessageTo(Terminal::print);
+                    Terminal.printLine();
                 }
                 break;
             case FAILURE:
@@ -101,6 +119,7 @@ public final class Session {
      */
     public void reset() {
         Terminal.printLine(InOutputStrings.SUCCESS);
+        this.gameNumber++;
         this.fireBreakerGameInstance = Application.buildGame(startParameters);
         this.fireBreakerCommands = new FireBreakerCommands(fireBreakerGameInstance, this);
         run();
@@ -43,6 +43,6 @@ public final class ShowBoardCommand extends Command {
 
     @Override
     public Result execute() {
-        return new Result(Result.ResultType.SUCCESS, fireBreaker.getGameBoard().getBoardRepresentation());
+        return new Result(Result.ResultType.SUCCESS, fireBreaker.getGameBoard()::writeBoardRepresentation);
     }
 }